@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating a JSON codec for every class annotated with
+ * {@link JsonModel}.
+ * The generated codecs read and write through Gson's streaming JsonReader and
+ * JsonWriter and call the getters and setters of the model directly, no
+ * reflection is used at runtime.
+ * Supported field types are String, Integer, Long, Boolean, Double and their
+ * primitives, other JsonModel classes and Lists of these types.
+ */
+public class JsonModelProcessor extends AbstractProcessor {
+  private static final String CODECS = "com.otc.sdk.core.json.JsonCodecs";
+  private static final String CODEC_SUFFIX = "JsonCodec";
+
+  /**
+   * Reading and writing code of a field type. In the templates $r stands for
+   * the JsonReader, $w for the JsonWriter and $v for the value.
+   */
+  private static final class Mapping {
+    final String read;
+    final String write;
+
+    Mapping(String read, String write) {
+      this.read = read;
+      this.write = write;
+    }
+
+    String read(String reader) {
+      return this.read.replace("$r", reader);
+    }
+
+    String write(String writer, String value) {
+      return this.write.replace("$w", writer).replace("$v", value);
+    }
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    // JsonField is read while generating the codec of its model
+    return new HashSet<>(Arrays.asList(JsonModel.class.getName(), JsonField.class.getName()));
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(JsonModel.class)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        this.error(element, "@JsonModel is only supported on classes");
+        continue;
+      }
+      try {
+        this.generate((TypeElement) element);
+      } catch (IOException e) {
+        this.error(element, "can not write JSON codec: " + e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  private void generate(TypeElement model) throws IOException {
+    String packageName = this.processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+    String modelName = model.getQualifiedName().toString();
+    String codecName = model.getSimpleName() + CODEC_SUFFIX;
+
+    StringBuilder reads = new StringBuilder();
+    StringBuilder writes = new StringBuilder();
+    for (VariableElement field : fields(model)) {
+      String fieldName = field.getSimpleName().toString();
+      JsonField jsonField = field.getAnnotation(JsonField.class);
+      String jsonName = jsonField != null ? jsonField.value() : fieldName;
+      TypeMirror type = field.asType();
+      Mapping mapping = this.mapping(type, 0);
+      if (mapping == null) {
+        this.error(field, "unsupported type of JSON field: " + type);
+        continue;
+      }
+
+      String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+      String setter = "set" + capitalized;
+      String getter = (type.getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+      if (!hasMethod(model, setter, 1) || !hasMethod(model, getter, 0)) {
+        this.error(field, "JSON field needs the methods " + getter + "() and " + setter + "(...)");
+        continue;
+      }
+
+      reads.append("        case \"").append(jsonName).append("\":\n");
+      if (type.getKind().isPrimitive()) {
+        String boxed = this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+            .getQualifiedName().toString();
+        String local = fieldName + "Value";
+        reads.append("          ").append(boxed).append(' ').append(local).append(" = ")
+            .append(mapping.read("reader")).append(";\n");
+        reads.append("          if (").append(local).append(" != null) {\n");
+        reads.append("            value.").append(setter).append('(').append(local).append(");\n");
+        reads.append("          }\n");
+        writes.append("    writer.name(\"").append(jsonName).append("\");\n");
+        writes.append("    ").append(mapping.write("writer", "value." + getter + "()")).append('\n');
+      } else {
+        reads.append("          value.").append(setter).append('(').append(mapping.read("reader")).append(");\n");
+        writes.append("    if (value.").append(getter).append("() != null) {\n");
+        writes.append("      writer.name(\"").append(jsonName).append("\");\n");
+        writes.append("      ").append(mapping.write("writer", "value." + getter + "()")).append('\n');
+        writes.append("    }\n");
+      }
+      reads.append("          break;\n");
+    }
+
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    // the generator is named in the comment rather than by @Generated, which no
+    // processor would claim when the codec itself is processed
+    source.append("/**\n * JSON codec of {@link ").append(modelName).append("}, generated by ")
+        .append(JsonModelProcessor.class.getName()).append(".\n */\n");
+    source.append("public final class ").append(codecName).append(" implements com.otc.sdk.core.json.JsonCodec<")
+        .append(modelName).append("> {\n");
+    source.append("  public static final ").append(codecName).append(" INSTANCE = new ").append(codecName)
+        .append("();\n\n");
+    source.append("  private ").append(codecName).append("() {\n  }\n\n");
+
+    source.append("  @Override\n");
+    source.append("  public ").append(modelName)
+        .append(" read(com.google.gson.stream.JsonReader reader) throws java.io.IOException {\n");
+    source.append("    if (reader.peek() == com.google.gson.stream.JsonToken.NULL) {\n");
+    source.append("      reader.nextNull();\n      return null;\n    }\n");
+    source.append("    ").append(modelName).append(" value = new ").append(modelName).append("();\n");
+    source.append("    reader.beginObject();\n");
+    source.append("    while (reader.hasNext()) {\n");
+    source.append("      switch (reader.nextName()) {\n");
+    source.append(reads);
+    source.append("        default:\n          reader.skipValue();\n      }\n    }\n");
+    source.append("    reader.endObject();\n    return value;\n  }\n\n");
+
+    source.append("  @Override\n");
+    source.append("  public void write(com.google.gson.stream.JsonWriter writer, ").append(modelName)
+        .append(" value) throws java.io.IOException {\n");
+    source.append("    if (value == null) {\n      writer.nullValue();\n      return;\n    }\n");
+    source.append("    writer.beginObject();\n");
+    source.append(writes);
+    source.append("    writer.endObject();\n  }\n}\n");
+
+    String qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedCodecName, model).openWriter()) {
+      writer.write(source.toString());
+    }
+  }
+
+  private Mapping mapping(TypeMirror type, int depth) {
+    switch (type.getKind()) {
+      case INT:
+        return new Mapping(CODECS + ".readInteger($r)", "$w.value($v);");
+      case LONG:
+        return new Mapping(CODECS + ".readLong($r)", "$w.value($v);");
+      case BOOLEAN:
+        return new Mapping(CODECS + ".readBoolean($r)", "$w.value($v);");
+      case DOUBLE:
+        return new Mapping(CODECS + ".readDouble($r)", "$w.value($v);");
+      case DECLARED:
+        break;
+      default:
+        return null;
+    }
+
+    DeclaredType declaredType = (DeclaredType) type;
+    TypeElement typeElement = (TypeElement) declaredType.asElement();
+    switch (typeElement.getQualifiedName().toString()) {
+      case "java.lang.String":
+        return new Mapping(CODECS + ".readString($r)", CODECS + ".writeString($w, $v);");
+      case "java.lang.Integer":
+        return new Mapping(CODECS + ".readInteger($r)", CODECS + ".writeNumber($w, $v);");
+      case "java.lang.Long":
+        return new Mapping(CODECS + ".readLong($r)", CODECS + ".writeNumber($w, $v);");
+      case "java.lang.Double":
+        return new Mapping(CODECS + ".readDouble($r)", CODECS + ".writeNumber($w, $v);");
+      case "java.lang.Boolean":
+        return new Mapping(CODECS + ".readBoolean($r)", CODECS + ".writeBoolean($w, $v);");
+      case "java.util.List":
+        if (declaredType.getTypeArguments().size() != 1) {
+          return null;
+        }
+        Mapping element = this.mapping(declaredType.getTypeArguments().get(0), depth + 1);
+        if (element == null) {
+          return null;
+        }
+        String reader = "r" + depth;
+        String writer = "w" + depth;
+        String value = "v" + depth;
+        return new Mapping(
+            CODECS + ".readList($r, " + reader + " -> " + element.read(reader) + ")",
+            CODECS + ".writeList($w, $v, (" + writer + ", " + value + ") -> "
+                + stripSemicolon(element.write(writer, value)) + ");");
+      default:
+        if (typeElement.getAnnotation(JsonModel.class) == null) {
+          return null;
+        }
+        String codec = typeElement.getQualifiedName() + CODEC_SUFFIX + ".INSTANCE";
+        return new Mapping(codec + ".read($r)", codec + ".write($w, $v);");
+    }
+  }
+
+  private static List<VariableElement> fields(TypeElement model) {
+    List<VariableElement> fields = new ArrayList<>();
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC)
+          && !member.getModifiers().contains(Modifier.TRANSIENT)) {
+        fields.add((VariableElement) member);
+      }
+    }
+    return fields;
+  }
+
+  private static boolean hasMethod(TypeElement model, String name, int parameters) {
+    for (Element member : model.getEnclosedElements()) {
+      if (member.getKind() == ElementKind.METHOD && member.getSimpleName().contentEquals(name)
+          && ((ExecutableElement) member).getParameters().size() == parameters
+          && !member.getModifiers().contains(Modifier.PRIVATE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String stripSemicolon(String statement) {
+    return statement.endsWith(";") ? statement.substring(0, statement.length() - 1) : statement;
+  }
+
+  private void error(Element element, String message) {
+    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.credentials;
+
+/**
+ * CredentialException is thrown when a CredentialProvider can not provide
+ * credentials.
+ */
+public class CredentialException extends RuntimeException {
+  private static final long serialVersionUID = 7215830196624410398L;
+
+  /**
+   * Constructor for CredentialException.
+   *
+   * @param message The detail message
+   */
+  public CredentialException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructor for CredentialException with a cause.
+   *
+   * @param message The detail message
+   * @param cause   The cause
+   */
+  public CredentialException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.credentials;
+
+import java.time.Instant;
+
+/**
+ * Immutable access key, secret key and, for temporary credentials, security
+ * token and expiration time.
+ */
+public final class Credentials {
+  private final String accessKey;
+  private final String secretKey;
+  private final String securityToken;
+  private final Instant expiration;
+
+  /**
+   * Constructor to initialize permanent Credentials.
+   *
+   * @param accessKey Access Key
+   * @param secretKey Secret Key
+   */
+  public Credentials(String accessKey, String secretKey) {
+    this(accessKey, secretKey, null, null);
+  }
+
+  /**
+   * Constructor to initialize Credentials.
+   *
+   * @param accessKey     Access Key
+   * @param secretKey     Secret Key
+   * @param securityToken Security token of temporary credentials, can be null
+   * @param expiration    Expiration time of temporary credentials, can be null
+   */
+  public Credentials(String accessKey, String secretKey, String securityToken, Instant expiration) {
+    this.accessKey = accessKey;
+    this.secretKey = secretKey;
+    this.securityToken = securityToken;
+    this.expiration = expiration;
+  }
+
+  public String getAccessKey() {
+    return this.accessKey;
+  }
+
+  public String getSecretKey() {
+    return this.secretKey;
+  }
+
+  public String getSecurityToken() {
+    return this.securityToken;
+  }
+
+  public Instant getExpiration() {
+    return this.expiration;
+  }
+
+  /**
+   * Checks if the credentials expire before the given time.
+   *
+   * @param time The time to check
+   * @return true if the credentials have an expiration time before the given
+   *         time
+   */
+  public boolean expiresBefore(Instant time) {
+    return this.expiration != null && this.expiration.isBefore(time);
+  }
+
+  @Override
+  public String toString() {
+    // never print the secret parts
+    return "Credentials[accessKey=" + this.accessKey + ", expiration=" + this.expiration + "]";
+  }
+}
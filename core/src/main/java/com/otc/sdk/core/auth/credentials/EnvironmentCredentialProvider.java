@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.credentials;
+
+/**
+ * CredentialProvider reading the credentials from the environment variables
+ * OTC_SDK_AK, OTC_SDK_SK and, for temporary credentials,
+ * OTC_SDK_SECURITY_TOKEN. The variables are read once.
+ */
+public class EnvironmentCredentialProvider implements CredentialProvider {
+  public static final String ACCESS_KEY = "OTC_SDK_AK";
+  public static final String SECRET_KEY = "OTC_SDK_SK";
+  public static final String SECURITY_TOKEN = "OTC_SDK_SECURITY_TOKEN";
+
+  private final Credentials credentials;
+
+  /**
+   * Constructor to initialize the EnvironmentCredentialProvider.
+   */
+  public EnvironmentCredentialProvider() {
+    String accessKey = System.getenv(ACCESS_KEY);
+    String secretKey = System.getenv(SECRET_KEY);
+    String securityToken = System.getenv(SECURITY_TOKEN);
+    this.credentials = isEmpty(accessKey) || isEmpty(secretKey) ? null
+        : new Credentials(accessKey, secretKey, isEmpty(securityToken) ? null : securityToken, null);
+  }
+
+  @Override
+  public Credentials getCredentials() {
+    if (this.credentials == null) {
+      throw new CredentialException("environment variables " + ACCESS_KEY + " and " + SECRET_KEY + " are not set");
+    }
+    return this.credentials;
+  }
+
+  private static boolean isEmpty(String value) {
+    return value == null || value.trim().isEmpty();
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.credentials;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.model.iam.Credential;
+import com.otc.sdk.model.iam.SecurityTokenRequest;
+import com.otc.sdk.model.iam.SecurityTokenRequestJsonCodec;
+import com.otc.sdk.model.iam.SecurityTokenResponse;
+import com.otc.sdk.model.iam.SecurityTokenResponseJsonCodec;
+import com.otc.sdk.service.HttpTransport;
+import com.otc.sdk.service.Request;
+
+/**
+ * CredentialProvider returning temporary credentials obtained from IAM with
+ * the credentials of a base provider.
+ * The first call fetches the credentials. Afterwards they are refreshed in the
+ * background before they expire, with at most one refresh in flight. Readers
+ * get the current credentials without blocking, they only wait if the
+ * credentials already expired, e.g. because refreshing failed repeatedly.
+ * Blocking fetches and background refreshes share one lock, so only one
+ * request to IAM is sent at a time and one follow-up refresh is scheduled.
+ * By default, all providers refresh in one shared background thread, so a
+ * slow IAM endpoint delays the refreshes of other providers. Providers for
+ * different endpoints can be given their own executor with
+ * setRefreshExecutor.
+ */
+public class SecurityTokenCredentialProvider implements CredentialProvider, Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SecurityTokenCredentialProvider.class);
+  private static final String SECURITY_TOKENS_PATH = "/v3.0/OS-CREDENTIAL/securitytokens";
+  private static final int MIN_DURATION_SECONDS = 900;
+  private static final ScheduledExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+      runnable -> {
+        Thread thread = new Thread(runnable, "otc-sdk-credential-refresh");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final CredentialProvider baseProvider;
+  private final String iamEndpoint;
+  private final HttpTransport<?> transport;
+  private final String messageDigestAlgorithm;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private int durationSeconds = 900;
+  private long refreshAheadMillis = 120000L;
+  private long retryDelayMillis = 10000L;
+  private volatile Credentials credentials;
+  private long fetchedMillis;
+  private volatile ScheduledExecutorService refreshExecutor = REFRESH_EXECUTOR;
+  private ScheduledFuture<?> scheduledRefresh;
+  private volatile boolean closed;
+
+  /**
+   * Constructor to initialize the SecurityTokenCredentialProvider with the
+   * default message digest algorithm "SDK-HMAC-SHA256".
+   *
+   * @param baseProvider Provider of the credentials the security token is
+   *                     requested with
+   * @param iamEndpoint  The IAM endpoint, e.g. https://iam.eu-de.otc.t-systems.com
+   * @param transport    The transport used to send requests to IAM
+   */
+  public SecurityTokenCredentialProvider(CredentialProvider baseProvider, String iamEndpoint,
+      HttpTransport<?> transport) {
+    this(baseProvider, iamEndpoint, transport, "SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the SecurityTokenCredentialProvider.
+   *
+   * @param baseProvider           Provider of the credentials the security
+   *                               token is requested with
+   * @param iamEndpoint            The IAM endpoint, e.g.
+   *                               https://iam.eu-de.otc.t-systems.com
+   * @param transport              The transport used to send requests to IAM
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public SecurityTokenCredentialProvider(CredentialProvider baseProvider, String iamEndpoint,
+      HttpTransport<?> transport, String messageDigestAlgorithm) {
+    this.baseProvider = baseProvider;
+    this.iamEndpoint = iamEndpoint.endsWith("/") ? iamEndpoint.substring(0, iamEndpoint.length() - 1)
+        : iamEndpoint;
+    this.transport = transport;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  public int getDurationSeconds() {
+    return this.durationSeconds;
+  }
+
+  /**
+   * Set the validity of requested security tokens.
+   *
+   * @param durationSeconds Validity in seconds, at least 900 and longer than
+   *                        the refresh ahead time (default 900)
+   */
+  public void setDurationSeconds(int durationSeconds) {
+    if (durationSeconds < MIN_DURATION_SECONDS) {
+      throw new IllegalArgumentException("durationSeconds must be at least " + MIN_DURATION_SECONDS);
+    }
+    if (durationSeconds * 1000L <= this.refreshAheadMillis) {
+      throw new IllegalArgumentException("durationSeconds must be longer than refreshAheadMillis");
+    }
+    this.durationSeconds = durationSeconds;
+  }
+
+  public long getRefreshAheadMillis() {
+    return this.refreshAheadMillis;
+  }
+
+  /**
+   * Set how long before expiry the credentials are refreshed.
+   *
+   * @param refreshAheadMillis Time before expiry in milliseconds, shorter
+   *                           than the duration (default 120000)
+   */
+  public void setRefreshAheadMillis(long refreshAheadMillis) {
+    if (refreshAheadMillis < 0 || refreshAheadMillis >= this.durationSeconds * 1000L) {
+      throw new IllegalArgumentException("refreshAheadMillis must be between 0 and the duration");
+    }
+    this.refreshAheadMillis = refreshAheadMillis;
+  }
+
+  public long getRetryDelayMillis() {
+    return this.retryDelayMillis;
+  }
+
+  /**
+   * Set the delay before a failed background refresh is tried again. It is
+   * also the minimum time between two refreshes, e.g. if IAM returns
+   * credentials expiring within the refresh ahead time.
+   *
+   * @param retryDelayMillis Delay in milliseconds (default 10000)
+   */
+  public void setRetryDelayMillis(long retryDelayMillis) {
+    if (retryDelayMillis <= 0) {
+      throw new IllegalArgumentException("retryDelayMillis must be positive");
+    }
+    this.retryDelayMillis = retryDelayMillis;
+  }
+
+  public ScheduledExecutorService getRefreshExecutor() {
+    return this.refreshExecutor;
+  }
+
+  /**
+   * Set the executor the credentials are refreshed in. Refreshing blocks a
+   * thread of the executor for the duration of the request to IAM.
+   *
+   * @param refreshExecutor The executor, by default a single daemon thread
+   *                        shared by all providers
+   */
+  public void setRefreshExecutor(ScheduledExecutorService refreshExecutor) {
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Override
+  public Credentials getCredentials() {
+    Credentials current = this.credentials;
+    Instant now = Instant.now();
+    if (current == null || current.expiresBefore(now)) {
+      return this.fetchBlocking();
+    }
+    if (current.expiresBefore(now.plusMillis(this.refreshAheadMillis))) {
+      this.triggerRefresh();
+    }
+    return current;
+  }
+
+  /**
+   * Stops refreshing the credentials in the background.
+   */
+  @Override
+  public synchronized void close() {
+    this.closed = true;
+    if (this.scheduledRefresh != null) {
+      this.scheduledRefresh.cancel(false);
+    }
+  }
+
+  private synchronized Credentials fetchBlocking() {
+    Credentials current = this.credentials;
+    if (current != null && !current.expiresBefore(Instant.now())) {
+      // fetched by a refresh holding the lock before
+      return current;
+    }
+    try {
+      current = this.fetch(this.transport);
+    } catch (IOException | RuntimeException e) {
+      throw new CredentialException("can not get security token from " + this.iamEndpoint, e);
+    }
+    this.credentials = current;
+    this.fetchedMillis = System.currentTimeMillis();
+    this.schedule(current);
+    return current;
+  }
+
+  private void triggerRefresh() {
+    if (!this.closed && this.refreshing.compareAndSet(false, true)) {
+      try {
+        this.refreshExecutor.execute(this::refresh);
+      } catch (RuntimeException e) {
+        this.refreshing.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void refresh() {
+    try {
+      synchronized (this) {
+        Credentials current = this.credentials;
+        long now = System.currentTimeMillis();
+        if (current != null && (!current.expiresBefore(Instant.ofEpochMilli(now + this.refreshAheadMillis))
+            || now - this.fetchedMillis < this.retryDelayMillis)) {
+          // a blocking fetch renewed the credentials, or they were fetched
+          // just now, and the next refresh is scheduled
+          return;
+        }
+        try {
+          Credentials refreshed = this.fetch(this.transport);
+          this.credentials = refreshed;
+          this.fetchedMillis = System.currentTimeMillis();
+          this.schedule(refreshed);
+        } catch (IOException | RuntimeException e) {
+          LOGGER.warn("refreshing security token failed, retrying in {} ms: {}", this.retryDelayMillis,
+              e.getMessage());
+          this.scheduleIn(this.retryDelayMillis);
+        }
+      }
+    } finally {
+      this.refreshing.set(false);
+    }
+  }
+
+  private void schedule(Credentials current) {
+    long delay = current.getExpiration().toEpochMilli() - this.refreshAheadMillis - System.currentTimeMillis();
+    // credentials expiring sooner than expected are not refreshed in a loop
+    this.scheduleIn(Math.max(this.retryDelayMillis, delay));
+  }
+
+  /**
+   * Schedules the next refresh, replacing a refresh scheduled before. Must be
+   * called holding the lock.
+   */
+  private void scheduleIn(long delayMillis) {
+    if (this.scheduledRefresh != null) {
+      this.scheduledRefresh.cancel(false);
+    }
+    if (!this.closed) {
+      this.scheduledRefresh = this.refreshExecutor.schedule(this::triggerRefresh, delayMillis,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private <T> Credentials fetch(HttpTransport<T> httpTransport) throws IOException {
+    Request request = new Request();
+    request.setCredentials(this.baseProvider.getCredentials());
+    request.setMethod("POST");
+    request.setUrl(this.iamEndpoint + SECURITY_TOKENS_PATH);
+    request.addHeader("Content-Type", "application/json;charset=utf8");
+    request.setBody(SecurityTokenRequestJsonCodec.INSTANCE.toJson(
+        SecurityTokenRequest.withDuration(this.durationSeconds)));
+    new Signer(this.messageDigestAlgorithm).sign(request);
+
+    Instant requested = Instant.now();
+    T response = httpTransport.execute(request, request.getBody().getBytes(StandardCharsets.UTF_8));
+    try {
+      int statusCode = httpTransport.getStatusCode(response);
+      if (statusCode < 200 || statusCode >= 300) {
+        throw new IOException("security token request failed with status " + statusCode);
+      }
+      SecurityTokenResponse body = SecurityTokenResponseJsonCodec.INSTANCE.fromJson(
+          httpTransport.getContent(response));
+      Credential credential = body == null ? null : body.getCredential();
+      if (credential == null || credential.getAccess() == null || credential.getSecret() == null) {
+        throw new IOException("security token response without credential");
+      }
+      return new Credentials(credential.getAccess(), credential.getSecret(), credential.getSecurityToken(),
+          expiration(credential.getExpiresAt(), requested.plusSeconds(this.durationSeconds)));
+    } finally {
+      httpTransport.release(response);
+    }
+  }
+
+  private static Instant expiration(String expiresAt, Instant fallback) {
+    if (expiresAt != null) {
+      try {
+        return Instant.parse(expiresAt);
+      } catch (DateTimeParseException e) {
+        LOGGER.debug("can not parse expires_at {}", expiresAt);
+      }
+    }
+    return fallback;
+  }
+}
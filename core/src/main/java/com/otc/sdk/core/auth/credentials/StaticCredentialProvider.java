@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.credentials;
+
+/**
+ * CredentialProvider returning fixed credentials.
+ */
+public class StaticCredentialProvider implements CredentialProvider {
+  private final Credentials credentials;
+
+  /**
+   * Constructor to initialize the StaticCredentialProvider with permanent
+   * credentials.
+   *
+   * @param accessKey Access Key
+   * @param secretKey Secret Key
+   */
+  public StaticCredentialProvider(String accessKey, String secretKey) {
+    this(new Credentials(accessKey, secretKey));
+  }
+
+  /**
+   * Constructor to initialize the StaticCredentialProvider.
+   *
+   * @param credentials The credentials
+   */
+  public StaticCredentialProvider(Credentials credentials) {
+    this.credentials = credentials;
+  }
+
+  @Override
+  public Credentials getCredentials() {
+    return this.credentials;
+  }
+}
@@ -26,7 +26,6 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.Security;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,17 +35,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
-import org.apache.commons.codec.binary.StringUtils;
-import org.bouncycastle.crypto.digests.SM3Digest;
-import org.openeuler.BGMJCEProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,14 +61,29 @@ public class Signer {
   public static final String LINE_SEPARATOR = "\n";
   public static final String SDK_SIGNING_ALGORITHM = "SDK-HMAC-SHA256";
   public static final String X_SDK_CONTENT_SHA256 = "x-sdk-content-sha256";
+  public static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
   public static final String X_SDK_DATE = "X-Sdk-Date";
   public static final String AUTHORIZATION = "Authorization";
+  public static final String X_SECURITY_TOKEN = "X-Security-Token";
   private static final Pattern AUTHORIZATION_PATTERN_SHA256 = Pattern
       .compile("SDK-HMAC-SHA256\\s+Access=([^,]+),\\s?SignedHeaders=([^,]+),\\s?Signature=(\\w+)");
   private static final Pattern AUTHORIZATION_PATTERN_SM3 = Pattern
       .compile("SDK-HMAC-SM3\\s+Access=([^,]+),\\s?SignedHeaders=([^,]+),\\s?Signature=(\\w+)");
 
   public static final String HOST = "Host";
+
+  /**
+   * Headers that are never signed, so they can be set or changed after
+   * signing without invalidating the signature. These are the W3C trace
+   * context headers, which get a new value for every attempt.
+   */
+  private static final Set<String> UNSIGNED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    UNSIGNED_HEADERS.add("traceparent");
+    UNSIGNED_HEADERS.add("tracestate");
+  }
+
   public String messageDigestAlgorithm = "SDK-HMAC-SHA256";
 
   /**
@@ -96,16 +110,71 @@ public class Signer {
    * @throws UnsupportedEncodingException if an error occurs during signing
    */
   public void sign(Request request) throws UnsupportedEncodingException {
-    String singerDate = this.getHeader(request, "X-Sdk-Date");
-    SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'", Locale.ENGLISH);
-    sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-    if (singerDate == null) {
-      singerDate = sdf.format(new Date());
-      request.addHeader("X-Sdk-Date", singerDate);
-    }
+    this.addDateHeader(request);
+    this.addHostHeader(request);
+    this.addSecurityTokenHeader(request);
+    this.sign(request, this.calculateContentHash(request));
+  }
 
+  /**
+   * Signs a request again using a content hash computed by an earlier call to
+   * {@link #contentHash(Request)}.
+   * The X-Sdk-Date and Authorization headers of a previous signing are
+   * replaced, so only the date dependent parts of the signature are computed
+   * again and the body is not hashed a second time.
+   *
+   * @param request              The request to be signed
+   * @param messageDigestContent The hex encoded content hash of the request body
+   * @throws UnsupportedEncodingException if an error occurs during signing
+   */
+  public void resign(Request request, String messageDigestContent) throws UnsupportedEncodingException {
+    request.removeHeader("X-Sdk-Date");
+    request.removeHeader("Authorization");
+    this.addDateHeader(request);
     this.addHostHeader(request);
-    String messageDigestContent = this.calculateContentHash(request);
+    this.addSecurityTokenHeader(request);
+    this.sign(request, messageDigestContent);
+  }
+
+  /**
+   * Returns the content hash used in the canonical request, either taken from
+   * the x-sdk-content-sha256 header or computed from the request body.
+   *
+   * @param request The request to calculate the content hash for
+   * @return The content hash as a hexadecimal string
+   */
+  public String contentHash(Request request) {
+    return this.calculateContentHash(request);
+  }
+
+  /**
+   * Computes the content hash of a body given as bytes, e.g. a compressed
+   * body, for use with {@link #resign(Request, String)}.
+   *
+   * @param body The body as sent
+   * @return The content hash as a hexadecimal string
+   */
+  public String contentHash(byte[] body) {
+    if (Objects.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")) {
+      try {
+        return BinaryUtils.toHex(MessageDigest.getInstance("SHA-256").digest(body));
+      } catch (NoSuchAlgorithmException e) {
+        return "";
+      }
+    }
+    return BinaryUtils.toHex(Sm3.hash(body));
+  }
+
+  /**
+   * Computes the signature from the given content hash and adds the
+   * Authorization header to the request.
+   *
+   * @param request              The request to be signed
+   * @param messageDigestContent The hex encoded content hash of the request body
+   * @throws UnsupportedEncodingException if an error occurs during signing
+   */
+  private void sign(Request request, String messageDigestContent) throws UnsupportedEncodingException {
+    String singerDate = this.getHeader(request, "X-Sdk-Date");
     String[] signedHeaders = this.getSignedHeaders(request);
     String canonicalRequest = this.createCanonicalRequest(request, signedHeaders, messageDigestContent);
     byte[] signingKey = this.deriveSigningKey(request.getSecrect());
@@ -219,7 +288,7 @@ public class Signer {
    * @return The string to sign
    */
   protected String createStringToSign(String canonicalRequest, String singerDate) {
-    return StringUtils.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
+    return Objects.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
         ? this.messageDigestAlgorithm + "\n" + singerDate + "\n" + BinaryUtils.toHex(this.hash(canonicalRequest))
         : this.messageDigestAlgorithm + "\n" + singerDate + "\n" + BinaryUtils.toHex(this.hashSm3(canonicalRequest));
   }
@@ -243,11 +312,10 @@ public class Signer {
    * @return The signed data as a byte array
    */
   protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
+    if (SigningAlgorithm.HmacSM3.equals(algorithm)) {
+      return Sm3.hmac(data, key);
+    }
     try {
-      if (SigningAlgorithm.HmacSM3.equals(algorithm)) {
-        Security.insertProviderAt(new BGMJCEProvider(), 1);
-      }
-
       Mac mac = Mac.getInstance(algorithm.toString());
       mac.init(new SecretKeySpec(key, algorithm.toString()));
       return mac.doFinal(data);
@@ -264,7 +332,7 @@ public class Signer {
    * @return The computed signature as a byte array
    */
   protected final byte[] computeSignature(String stringToSign, byte[] signingKey) {
-    return StringUtils.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
+    return Objects.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
         ? this.sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey, SigningAlgorithm.HmacSHA256)
         : this.sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey, SigningAlgorithm.HmacSM3);
   }
@@ -284,18 +352,25 @@ public class Signer {
     String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
 
     String ret = this.messageDigestAlgorithm + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
-    LOGGER.info(ret);
+    LOGGER.debug(ret);
     return ret;
   }
 
   /**
-   * Gets the signed headers from the request.
+   * Gets the signed headers from the request. All headers are signed except
+   * the trace context headers traceparent and tracestate.
    *
    * @param request The request to get the signed headers from
    * @return An array of signed header names
    */
   protected String[] getSignedHeaders(Request request) {
-    String[] signedHeaders = (String[]) request.getHeaders().keySet().toArray(new String[0]);
+    List<String> names = new ArrayList<>(request.getHeaders().size());
+    for (String name : request.getHeaders().keySet()) {
+      if (!UNSIGNED_HEADERS.contains(name)) {
+        names.add(name);
+      }
+    }
+    String[] signedHeaders = names.toArray(new String[0]);
     Arrays.sort(signedHeaders, String.CASE_INSENSITIVE_ORDER);
     return signedHeaders;
   }
@@ -351,6 +426,33 @@ public class Signer {
     return buffer.toString();
   }
 
+  /**
+   * Adds the X-Sdk-Date header with the current UTC time if the request does
+   * not already carry one.
+   *
+   * @param request The request to add the header to
+   */
+  protected void addDateHeader(Request request) {
+    if (this.getHeader(request, "X-Sdk-Date") == null) {
+      SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'", Locale.ENGLISH);
+      sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+      request.addHeader("X-Sdk-Date", sdf.format(new Date()));
+    }
+  }
+
+  /**
+   * Adds the X-Security-Token header if the request is signed with temporary
+   * credentials. The header is signed like all other headers.
+   *
+   * @param request The request to add the header to
+   */
+  protected void addSecurityTokenHeader(Request request) {
+    if (request.getSecurityToken() != null) {
+      request.removeHeader(X_SECURITY_TOKEN);
+      request.addHeader(X_SECURITY_TOKEN, request.getSecurityToken());
+    }
+  }
+
   protected void addHostHeader(Request request) {
     boolean haveHostHeader = false;
     Iterator var3 = request.getHeaders().keySet().iterator();
@@ -407,7 +509,7 @@ public class Signer {
     String singerDate = this.getHeader(request, "X-Sdk-Date");
     String authorization = this.getHeader(request, "Authorization");
     Matcher match = AUTHORIZATION_PATTERN_SM3.matcher(authorization);
-    if (StringUtils.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")) {
+    if (Objects.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")) {
       match = AUTHORIZATION_PATTERN_SHA256.matcher(authorization);
     }
 
@@ -436,7 +538,7 @@ public class Signer {
     if (content_sha256 != null) {
       return content_sha256;
     } else {
-      return StringUtils.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
+      return Objects.equals(this.messageDigestAlgorithm, "SDK-HMAC-SHA256")
           ? BinaryUtils.toHex(this.hash(request.getBody()))
           : BinaryUtils.toHex(this.hashSm3(request.getBody()));
     }
@@ -465,11 +567,6 @@ public class Signer {
    * @return The hashed byte array
    */
   public byte[] hashSm3(String text) {
-    byte[] srcData = text.getBytes(StandardCharsets.UTF_8);
-    SM3Digest digest = new SM3Digest();
-    digest.update(srcData, 0, srcData.length);
-    byte[] hash = new byte[digest.getDigestSize()];
-    digest.doFinal(hash, 0);
-    return hash;
+    return Sm3.hash(text.getBytes(StandardCharsets.UTF_8));
   }
 }
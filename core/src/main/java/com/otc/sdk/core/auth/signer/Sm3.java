@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.signer;
+
+import org.bouncycastle.crypto.digests.SM3Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+/**
+ * SM3 hashing and HMAC-SM3 for the Signer, with the lightweight API of
+ * BouncyCastle, so no JCE provider has to be registered.
+ * Kept apart from Signer, so BouncyCastle is only loaded once SM3 is used.
+ */
+final class Sm3 {
+  private Sm3() {
+  }
+
+  static byte[] hash(byte[] data) {
+    SM3Digest digest = new SM3Digest();
+    digest.update(data, 0, data.length);
+    byte[] hash = new byte[digest.getDigestSize()];
+    digest.doFinal(hash, 0);
+    return hash;
+  }
+
+  static byte[] hmac(byte[] data, byte[] key) {
+    HMac hmac = new HMac(new SM3Digest());
+    hmac.init(new KeyParameter(key));
+    hmac.update(data, 0, data.length);
+    byte[] result = new byte[hmac.getMacSize()];
+    hmac.doFinal(result, 0);
+    return result;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.token;
+
+import java.time.Instant;
+
+/**
+ * Immutable IAM token sent in the X-Auth-Token header, with its expiration
+ * time.
+ */
+public final class AuthToken {
+  private final String value;
+  private final Instant expiration;
+
+  /**
+   * Constructor to initialize the AuthToken.
+   *
+   * @param value      The token, i.e. the X-Subject-Token header returned by IAM
+   * @param expiration Expiration time of the token
+   */
+  public AuthToken(String value, Instant expiration) {
+    this.value = value;
+    this.expiration = expiration;
+  }
+
+  public String getValue() {
+    return this.value;
+  }
+
+  public Instant getExpiration() {
+    return this.expiration;
+  }
+
+  /**
+   * Checks whether the token expires before the given time.
+   *
+   * @param time The time to compare with
+   * @return true if the token expires before the time
+   */
+  public boolean expiresBefore(Instant time) {
+    return this.expiration.isBefore(time);
+  }
+
+  @Override
+  public String toString() {
+    return "AuthToken[expiration=" + this.expiration + "]";
+  }
+}
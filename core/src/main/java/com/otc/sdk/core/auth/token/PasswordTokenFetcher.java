@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.token;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+import com.otc.sdk.core.json.JsonStreams;
+import com.otc.sdk.service.HttpTransport;
+import com.otc.sdk.service.Request;
+
+/**
+ * TokenFetcher obtaining project scoped tokens from IAM with the password of
+ * an IAM user.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class PasswordTokenFetcher<T> implements TokenFetcher {
+  private static final String TOKENS_PATH = "/v3/auth/tokens";
+  private static final String X_SUBJECT_TOKEN = "X-Subject-Token";
+
+  private final HttpTransport<T> transport;
+  private final String iamEndpoint;
+  private final String domainName;
+  private final String userName;
+  private final String password;
+
+  /**
+   * Constructor to initialize the PasswordTokenFetcher.
+   *
+   * @param transport   The transport used to send requests to IAM
+   * @param iamEndpoint The IAM endpoint, e.g. https://iam.eu-de.otc.t-systems.com
+   * @param domainName  The domain (tenant) of the user
+   * @param userName    The IAM user name
+   * @param password    The password of the user
+   */
+  public PasswordTokenFetcher(HttpTransport<T> transport, String iamEndpoint, String domainName, String userName,
+      String password) {
+    this.transport = transport;
+    this.iamEndpoint = iamEndpoint.endsWith("/") ? iamEndpoint.substring(0, iamEndpoint.length() - 1)
+        : iamEndpoint;
+    this.domainName = domainName;
+    this.userName = userName;
+    this.password = password;
+  }
+
+  @Override
+  public AuthToken fetch(String projectId) throws IOException {
+    Request request = new Request();
+    request.setMethod("POST");
+    request.setUrl(this.iamEndpoint + TOKENS_PATH);
+    request.addHeader("Content-Type", "application/json;charset=utf8");
+    byte[] body = this.body(projectId).getBytes(StandardCharsets.UTF_8);
+
+    T response = this.transport.execute(request, body);
+    try {
+      int statusCode = this.transport.getStatusCode(response);
+      if (statusCode < 200 || statusCode >= 300) {
+        throw new IOException("token request failed with status " + statusCode);
+      }
+      String token = this.transport.getHeader(response, X_SUBJECT_TOKEN);
+      if (token == null) {
+        throw new IOException("token response without " + X_SUBJECT_TOKEN + " header");
+      }
+      JsonElement expiresAt = JsonStreams.readValue(this.transport.getContent(response), "token.expires_at");
+      if (expiresAt == null || !expiresAt.isJsonPrimitive()) {
+        throw new IOException("token response without expires_at");
+      }
+      try {
+        return new AuthToken(token, Instant.parse(expiresAt.getAsString()));
+      } catch (DateTimeParseException e) {
+        throw new IOException("invalid expires_at " + expiresAt.getAsString(), e);
+      }
+    } finally {
+      this.transport.release(response);
+    }
+  }
+
+  private String body(String projectId) throws IOException {
+    StringWriter out = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(out)) {
+      writer.beginObject().name("auth").beginObject();
+      writer.name("identity").beginObject();
+      writer.name("methods").beginArray().value("password").endArray();
+      writer.name("password").beginObject().name("user").beginObject();
+      writer.name("name").value(this.userName);
+      writer.name("password").value(this.password);
+      writer.name("domain").beginObject().name("name").value(this.domainName).endObject();
+      writer.endObject().endObject();
+      writer.endObject();
+      writer.name("scope").beginObject().name("project").beginObject().name("id").value(projectId).endObject()
+          .endObject();
+      writer.endObject().endObject();
+    }
+    return out.toString();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.auth.token;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import com.otc.sdk.service.Request;
+
+/**
+ * Cache of IAM tokens per project scope, used to authenticate requests with
+ * the X-Auth-Token header instead of signing them.
+ * A token is fetched on first use of a project and reused until shortly
+ * before it expires. Concurrent callers needing a token of the same project
+ * wait for a single fetch.
+ */
+public class TokenCache {
+  public static final String X_AUTH_TOKEN = "X-Auth-Token";
+  private static final long TOKEN_VALIDITY_MILLIS = 86400000L;
+
+  private final TokenFetcher fetcher;
+  private final ConcurrentMap<String, CompletableFuture<AuthToken>> tokens = new ConcurrentHashMap<>();
+  private long refreshAheadMillis = 300000L;
+
+  /**
+   * Constructor to initialize the TokenCache.
+   *
+   * @param fetcher Obtains the tokens from IAM
+   */
+  public TokenCache(TokenFetcher fetcher) {
+    this.fetcher = fetcher;
+  }
+
+  public long getRefreshAheadMillis() {
+    return this.refreshAheadMillis;
+  }
+
+  /**
+   * Set how long before expiry a token is replaced by a new one.
+   *
+   * @param refreshAheadMillis Time before expiry in milliseconds, less than
+   *                           the 24 hours IAM tokens are valid (default
+   *                           300000)
+   */
+  public void setRefreshAheadMillis(long refreshAheadMillis) {
+    if (refreshAheadMillis < 0 || refreshAheadMillis >= TOKEN_VALIDITY_MILLIS) {
+      throw new IllegalArgumentException("refreshAheadMillis must be between 0 and 24 hours");
+    }
+    this.refreshAheadMillis = refreshAheadMillis;
+  }
+
+  /**
+   * Returns the token of a project, fetching it if none is cached or the
+   * cached token is about to expire. A token fetched for this call, or
+   * while this call waited, is returned even if it is about to expire.
+   *
+   * @param projectId The project the token is scoped to
+   * @return The token
+   * @throws IOException if the token can not be obtained
+   */
+  public AuthToken getToken(String projectId) throws IOException {
+    while (true) {
+      CompletableFuture<AuthToken> token = this.tokens.get(projectId);
+      if (token == null) {
+        CompletableFuture<AuthToken> created = new CompletableFuture<>();
+        token = this.tokens.putIfAbsent(projectId, created);
+        if (token == null) {
+          this.fetch(projectId, created);
+          return await(created);
+        }
+      }
+      // only a token cached before this call is replaced, so a token issued
+      // with a lifetime shorter than refreshAheadMillis is fetched once per
+      // call instead of over and over
+      if (token.isDone() && !token.isCompletedExceptionally()
+          && token.join().expiresBefore(Instant.now().plusMillis(this.refreshAheadMillis))) {
+        this.tokens.remove(projectId, token);
+        continue;
+      }
+      return await(token);
+    }
+  }
+
+  /**
+   * Adds the X-Auth-Token header with the token of a project to a request,
+   * replacing an existing one.
+   *
+   * @param request   The request to authenticate
+   * @param projectId The project the token is scoped to
+   * @return The token added to the request
+   * @throws IOException if the token can not be obtained
+   */
+  public AuthToken authorize(Request request, String projectId) throws IOException {
+    AuthToken token = this.getToken(projectId);
+    request.removeHeader(X_AUTH_TOKEN);
+    request.addHeader(X_AUTH_TOKEN, token.getValue());
+    return token;
+  }
+
+  /**
+   * Removes a token from the cache, e.g. after it was rejected with status
+   * 401. Nothing happens if the project already has a different token.
+   *
+   * @param projectId The project the token is scoped to
+   * @param token     The rejected token
+   */
+  public void invalidate(String projectId, AuthToken token) {
+    CompletableFuture<AuthToken> cached = this.tokens.get(projectId);
+    if (cached != null && cached.isDone() && !cached.isCompletedExceptionally() && cached.join() == token) {
+      this.tokens.remove(projectId, cached);
+    }
+  }
+
+  /**
+   * Removes all cached tokens.
+   */
+  public void clear() {
+    this.tokens.clear();
+  }
+
+  private void fetch(String projectId, CompletableFuture<AuthToken> token) {
+    try {
+      token.complete(this.fetcher.fetch(projectId));
+    } catch (IOException | RuntimeException e) {
+      // waiting callers fail with this exception, later callers fetch again
+      this.tokens.remove(projectId, token);
+      token.completeExceptionally(e);
+    }
+  }
+
+  private static AuthToken await(CompletableFuture<AuthToken> token) throws IOException {
+    try {
+      return token.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for token");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker for one endpoint.
+ * The breaker records the outcome of the most recent calls in a sliding
+ * window and opens when the failure rate or the slow call rate reaches its
+ * threshold. An open breaker rejects calls without sending them. After the
+ * open duration a few probe calls are let through (half open); if they
+ * succeed the breaker closes, otherwise it opens again.
+ */
+public class CircuitBreaker {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  /**
+   * State of a circuit breaker.
+   */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN;
+  }
+
+  private final String name;
+  private final CircuitBreakerConfig config;
+  private final long slowCallNanos;
+  private final long openNanos;
+
+  private final byte[] window;
+  private int windowIndex;
+  private int calls;
+  private int failures;
+  private int slowCalls;
+
+  private volatile State state = State.CLOSED;
+  private volatile long openedAt;
+  private final AtomicInteger probePermits = new AtomicInteger();
+  private int probeSuccesses;
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  /**
+   * Constructor to initialize the circuit breaker.
+   *
+   * @param name   The name of the breaker, e.g. the endpoint host
+   * @param config The settings of the breaker
+   */
+  public CircuitBreaker(String name, CircuitBreakerConfig config) {
+    this.name = name;
+    this.config = config;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallMillis());
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenMillis());
+    this.window = new byte[config.getWindowSize()];
+  }
+
+  /**
+   * Checks if a call may be sent. Every permitted call has to be completed
+   * with {@link #onResult(long, boolean)} or {@link #releasePermission()}.
+   *
+   * @return true if the call may be sent, false if the circuit is open
+   */
+  public boolean tryAcquirePermission() {
+    State current = this.state;
+    if (current == State.CLOSED) {
+      return true;
+    }
+    if (current == State.OPEN) {
+      if (System.nanoTime() - this.openedAt < this.openNanos) {
+        return false;
+      }
+      synchronized (this) {
+        if (this.state == State.OPEN && System.nanoTime() - this.openedAt >= this.openNanos) {
+          this.transitionTo(State.HALF_OPEN);
+        }
+      }
+    }
+    return this.acquireProbe();
+  }
+
+  private boolean acquireProbe() {
+    int permits;
+    do {
+      if (this.state == State.CLOSED) {
+        return true;
+      }
+      permits = this.probePermits.get();
+      if (this.state != State.HALF_OPEN || permits <= 0) {
+        return false;
+      }
+    } while (!this.probePermits.compareAndSet(permits, permits - 1));
+    return true;
+  }
+
+  /**
+   * Gives back a permission for a call that was not sent or was cancelled.
+   */
+  public void releasePermission() {
+    if (this.state == State.HALF_OPEN) {
+      this.probePermits.incrementAndGet();
+    }
+  }
+
+  /**
+   * Records the outcome of a permitted call.
+   *
+   * @param durationNanos The duration of the call in nanoseconds
+   * @param failed        true if the call failed
+   */
+  public synchronized void onResult(long durationNanos, boolean failed) {
+    byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= this.slowCallNanos ? SLOW : 0));
+    if (this.state == State.HALF_OPEN) {
+      if (outcome != 0) {
+        this.transitionTo(State.OPEN);
+      } else if (++this.probeSuccesses >= this.config.getHalfOpenProbes()) {
+        this.transitionTo(State.CLOSED);
+      }
+    } else if (this.state == State.CLOSED) {
+      this.record(outcome);
+      if (this.calls >= this.config.getMinimumCalls()
+          && (this.failures >= this.config.getFailureRateThreshold() * this.calls
+              || this.slowCalls >= this.config.getSlowCallRateThreshold() * this.calls)) {
+        this.transitionTo(State.OPEN);
+      }
+    }
+  }
+
+  private void record(byte outcome) {
+    if (this.calls == this.window.length) {
+      byte evicted = this.window[this.windowIndex];
+      this.failures -= evicted & FAILED;
+      this.slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      ++this.calls;
+    }
+    this.window[this.windowIndex] = outcome;
+    this.windowIndex = (this.windowIndex + 1) % this.window.length;
+    this.failures += outcome & FAILED;
+    this.slowCalls += (outcome & SLOW) >> 1;
+  }
+
+  private void transitionTo(State next) {
+    LOGGER.info("circuit breaker {} changed from {} to {}", this.name, this.state, next);
+    if (next == State.OPEN) {
+      this.openedAt = System.nanoTime();
+    } else if (next == State.HALF_OPEN) {
+      this.probeSuccesses = 0;
+      this.probePermits.set(this.config.getHalfOpenProbes());
+    } else {
+      this.calls = 0;
+      this.failures = 0;
+      this.slowCalls = 0;
+      this.windowIndex = 0;
+    }
+    this.state = next;
+  }
+
+  /**
+   * Gets the name of the breaker.
+   *
+   * @return The name
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the current state of the breaker.
+   *
+   * @return The state
+   */
+  public State getState() {
+    return this.state;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+/**
+ * Settings of the circuit breakers created by a CircuitBreakerRegistry.
+ */
+public class CircuitBreakerConfig {
+  private int windowSize = 50;
+  private int minimumCalls = 20;
+  private double failureRateThreshold = 0.5;
+  private long slowCallMillis = 10_000L;
+  private double slowCallRateThreshold = 0.8;
+  private long openMillis = 30_000L;
+  private int halfOpenProbes = 3;
+
+  public int getWindowSize() {
+    return this.windowSize;
+  }
+
+  /**
+   * Sets the number of most recent calls the failure and slow call rates are
+   * computed from.
+   *
+   * @param windowSize The size of the sliding window
+   */
+  public void setWindowSize(int windowSize) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("windowSize must be positive");
+    }
+    this.windowSize = windowSize;
+  }
+
+  public int getMinimumCalls() {
+    return this.minimumCalls;
+  }
+
+  /**
+   * Sets the number of calls needed before the circuit can open.
+   *
+   * @param minimumCalls The minimum number of calls in the window
+   */
+  public void setMinimumCalls(int minimumCalls) {
+    this.minimumCalls = minimumCalls;
+  }
+
+  public double getFailureRateThreshold() {
+    return this.failureRateThreshold;
+  }
+
+  /**
+   * Sets the share of failed calls at which the circuit opens.
+   *
+   * @param failureRateThreshold The failure rate, e.g. 0.5
+   */
+  public void setFailureRateThreshold(double failureRateThreshold) {
+    this.failureRateThreshold = failureRateThreshold;
+  }
+
+  public long getSlowCallMillis() {
+    return this.slowCallMillis;
+  }
+
+  /**
+   * Sets the duration after which a call counts as slow.
+   *
+   * @param slowCallMillis The slow call duration in milliseconds
+   */
+  public void setSlowCallMillis(long slowCallMillis) {
+    this.slowCallMillis = slowCallMillis;
+  }
+
+  public double getSlowCallRateThreshold() {
+    return this.slowCallRateThreshold;
+  }
+
+  /**
+   * Sets the share of slow calls at which the circuit opens.
+   *
+   * @param slowCallRateThreshold The slow call rate, e.g. 0.8
+   */
+  public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+    this.slowCallRateThreshold = slowCallRateThreshold;
+  }
+
+  public long getOpenMillis() {
+    return this.openMillis;
+  }
+
+  /**
+   * Sets how long an open circuit rejects calls before probe calls are let
+   * through.
+   *
+   * @param openMillis The open duration in milliseconds
+   */
+  public void setOpenMillis(long openMillis) {
+    this.openMillis = openMillis;
+  }
+
+  public int getHalfOpenProbes() {
+    return this.halfOpenProbes;
+  }
+
+  /**
+   * Sets the number of probe calls that have to succeed to close the circuit
+   * again.
+   *
+   * @param halfOpenProbes The number of probe calls
+   */
+  public void setHalfOpenProbes(int halfOpenProbes) {
+    if (halfOpenProbes < 1) {
+      throw new IllegalArgumentException("halfOpenProbes must be positive");
+    }
+    this.halfOpenProbes = halfOpenProbes;
+  }
+}
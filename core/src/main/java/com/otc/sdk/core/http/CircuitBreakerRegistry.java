@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one CircuitBreaker per endpoint host, all created with the same
+ * settings.
+ */
+public class CircuitBreakerRegistry {
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final CircuitBreakerConfig config;
+
+  /**
+   * Constructor to initialize the registry with default settings.
+   */
+  public CircuitBreakerRegistry() {
+    this(new CircuitBreakerConfig());
+  }
+
+  /**
+   * Constructor to initialize the registry.
+   *
+   * @param config The settings of the circuit breakers
+   */
+  public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Gets the circuit breaker for a host, creating it on first use.
+   *
+   * @param host The endpoint host
+   * @return The circuit breaker
+   */
+  public CircuitBreaker get(String host) {
+    CircuitBreaker circuitBreaker = this.circuitBreakers.get(host);
+    if (circuitBreaker == null) {
+      circuitBreaker = this.circuitBreakers.computeIfAbsent(host, h -> new CircuitBreaker(h, this.config));
+    }
+    return circuitBreaker;
+  }
+
+  /**
+   * Returns the circuit breakers created so far, keyed by host.
+   *
+   * @return The circuit breakers
+   */
+  public Map<String, CircuitBreaker> getCircuitBreakers() {
+    return this.circuitBreakers;
+  }
+}
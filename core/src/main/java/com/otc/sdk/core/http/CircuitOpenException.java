@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+/**
+ * Exception thrown when a request is rejected without being sent because the
+ * circuit breaker of its endpoint is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+  private static final long serialVersionUID = 7340918237405527104L;
+  private final String host;
+
+  /**
+   * Constructor for CircuitOpenException. No stack trace is recorded, the
+   * exception is thrown on every rejected request.
+   *
+   * @param host The endpoint host of the rejected request
+   */
+  public CircuitOpenException(String host) {
+    super("circuit breaker open for " + host, null, false, false);
+    this.host = host;
+  }
+
+  /**
+   * Gets the endpoint host of the rejected request.
+   *
+   * @return The host
+   */
+  public String getHost() {
+    return this.host;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HedgingPolicy decides when a second request is sent for a slow idempotent
+ * request.
+ * The hedge delay follows a percentile of the latencies recorded for earlier
+ * requests, so that only the slowest requests are hedged. The number of
+ * hedged requests is bounded by a budget.
+ * The policy is safe to use from many threads.
+ */
+public class HedgingPolicy {
+  private static final int SAMPLE_COUNT = 1024;
+  private static final int RECOMPUTE_INTERVAL = SAMPLE_COUNT / 8;
+
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_COUNT);
+  private final AtomicLong recorded = new AtomicLong();
+  private volatile long percentileDelayMillis = -1L;
+
+  private double percentile = 0.95;
+  private long minDelayMillis = 10L;
+  private long initialDelayMillis = 1_000L;
+  private RetryBudget hedgeBudget = new RetryBudget(0.05, 5, 50);
+
+  /**
+   * Checks if requests with the given method may be hedged. Only GET and HEAD
+   * requests are hedged.
+   *
+   * @param httpMethod HTTP method of the request
+   * @return true if the request may be hedged
+   */
+  public boolean isHedgeable(HttpMethodName httpMethod) {
+    return httpMethod == HttpMethodName.GET || httpMethod == HttpMethodName.HEAD;
+  }
+
+  /**
+   * Records the latency of a completed request.
+   *
+   * @param latencyMillis The latency in milliseconds
+   */
+  public void recordLatency(long latencyMillis) {
+    long count = this.recorded.incrementAndGet();
+    this.samples.set((int) ((count - 1) & (SAMPLE_COUNT - 1)), latencyMillis);
+    if (count % RECOMPUTE_INTERVAL == 0) {
+      int size = (int) Math.min(count, SAMPLE_COUNT);
+      long[] sorted = new long[size];
+      for (int i = 0; i < size; ++i) {
+        sorted[i] = this.samples.get(i);
+      }
+      Arrays.sort(sorted);
+      this.percentileDelayMillis = sorted[(int) Math.min(size - 1, Math.ceil(this.percentile * size) - 1)];
+    }
+  }
+
+  /**
+   * Returns the time to wait for the first response before a hedged request
+   * is sent.
+   *
+   * @return The hedge delay in milliseconds
+   */
+  public long getHedgeDelayMillis() {
+    long delay = this.percentileDelayMillis;
+    return delay < 0 ? this.initialDelayMillis : Math.max(this.minDelayMillis, delay);
+  }
+
+  public double getPercentile() {
+    return this.percentile;
+  }
+
+  /**
+   * Sets the latency percentile after which a hedged request is sent.
+   *
+   * @param percentile The percentile, e.g. 0.95
+   */
+  public void setPercentile(double percentile) {
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException("percentile must be in (0, 1]");
+    }
+    this.percentile = percentile;
+  }
+
+  public long getMinDelayMillis() {
+    return this.minDelayMillis;
+  }
+
+  /**
+   * Sets the lower bound of the hedge delay.
+   *
+   * @param minDelayMillis The minimum hedge delay in milliseconds
+   */
+  public void setMinDelayMillis(long minDelayMillis) {
+    this.minDelayMillis = minDelayMillis;
+  }
+
+  public long getInitialDelayMillis() {
+    return this.initialDelayMillis;
+  }
+
+  /**
+   * Sets the hedge delay used until enough latencies have been recorded.
+   *
+   * @param initialDelayMillis The initial hedge delay in milliseconds
+   */
+  public void setInitialDelayMillis(long initialDelayMillis) {
+    this.initialDelayMillis = initialDelayMillis;
+  }
+
+  public RetryBudget getHedgeBudget() {
+    return this.hedgeBudget;
+  }
+
+  /**
+   * Sets the budget bounding the share of hedged requests. The default allows
+   * 5% extra requests.
+   *
+   * @param hedgeBudget The hedge budget, null for no limit
+   */
+  public void setHedgeBudget(RetryBudget hedgeBudget) {
+    this.hedgeBudget = hedgeBudget;
+  }
+}
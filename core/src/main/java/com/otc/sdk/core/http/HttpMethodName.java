@@ -28,4 +28,15 @@ public enum HttpMethodName {
   HEAD,
   PATCH,
   OPTIONS;
+
+  /**
+   * Returns whether sending the request more than once has the same effect as
+   * sending it once (RFC 9110, section 9.2.2).
+   * POST and PATCH are not idempotent.
+   *
+   * @return true if the method is idempotent, false otherwise
+   */
+  public boolean isIdempotent() {
+    return this != POST && this != PATCH;
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+/**
+ * Exception thrown when a request is rejected by a RateLimiter in fail fast
+ * mode, before it is sent.
+ */
+public class RateLimitExceededException extends RuntimeException {
+  private static final long serialVersionUID = 5012938104827734612L;
+  private final String key;
+
+  /**
+   * Constructor for RateLimitExceededException.
+   *
+   * @param key The rate limiter key of the request
+   */
+  public RateLimitExceededException(String key) {
+    super("rate limit exceeded: " + key);
+    this.key = key;
+  }
+
+  /**
+   * Gets the rate limiter key of the rejected request.
+   *
+   * @return The key made of access key, service and operation
+   */
+  public String getKey() {
+    return this.key;
+  }
+}
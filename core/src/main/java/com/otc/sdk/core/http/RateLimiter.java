@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import com.otc.sdk.service.Request;
+
+/**
+ * In-process rate limiter with one token bucket per access key, service and
+ * operation.
+ * The service is the first label of the request host (e.g. "vpc" for
+ * vpc.eu-de.otc.t-systems.com) and the operation is the HTTP method and the
+ * request path with ids replaced by "*".
+ * Limits apply to all services unless a limit for a service is set.
+ * Buckets that are full again are dropped once more than 4096 buckets exist,
+ * so path segments that are not recognized as ids do not grow the limiter
+ * without bound. A full bucket behaves like a new one, no limit is lost.
+ */
+public class RateLimiter {
+  private static final Pattern ID_SEGMENT = Pattern.compile("[0-9a-fA-F-]{16,}|[0-9]+");
+  private static final int MAX_BUCKETS = 4096;
+
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, double[]> serviceLimits = new ConcurrentHashMap<>();
+  private final double permitsPerSecond;
+  private final int burst;
+  private final boolean failFast;
+  private final AtomicInteger evictionThreshold = new AtomicInteger(MAX_BUCKETS);
+
+  /**
+   * Constructor to initialize the rate limiter.
+   *
+   * @param permitsPerSecond Requests per second allowed for each key
+   * @param burst            Requests allowed at once after a quiet period
+   * @param failFast         true to reject requests over the limit, false to
+   *                         wait until they are allowed
+   */
+  public RateLimiter(double permitsPerSecond, int burst, boolean failFast) {
+    checkLimit(permitsPerSecond, burst);
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = burst;
+    this.failFast = failFast;
+  }
+
+  /**
+   * Sets the limit for all operations of a service. Only buckets created
+   * afterwards use the new limit.
+   *
+   * @param service          The service, e.g. "vpc"
+   * @param permitsPerSecond Requests per second allowed for each key
+   * @param burst            Requests allowed at once after a quiet period
+   */
+  public void setServiceLimit(String service, double permitsPerSecond, int burst) {
+    checkLimit(permitsPerSecond, burst);
+    this.serviceLimits.put(service.toLowerCase(Locale.ROOT), new double[] { permitsPerSecond, burst });
+  }
+
+  /**
+   * Takes a permit for the request, waiting for it or failing depending on
+   * the mode of the rate limiter.
+   *
+   * @param request The request about to be sent
+   * @return The time waited in nanoseconds, 0 if a permit was available
+   * @throws RateLimitExceededException if the limiter fails fast and no permit
+   *                                    is available
+   * @throws InterruptedIOException     if the thread is interrupted while
+   *                                    waiting
+   */
+  public long acquire(Request request) throws InterruptedIOException {
+    String service = getService(request);
+    String key = request.getKey() + "|" + service + "|" + getOperation(request);
+    TokenBucket bucket = this.buckets.get(key);
+    if (bucket == null) {
+      this.evictFullBuckets();
+      bucket = this.buckets.computeIfAbsent(key, k -> this.newBucket(service));
+    }
+    if (this.failFast) {
+      if (!bucket.tryAcquire()) {
+        throw new RateLimitExceededException(key);
+      }
+      return 0L;
+    }
+
+    long waitNanos = bucket.reserve();
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while waiting for rate limit");
+      }
+    }
+    return waitNanos;
+  }
+
+  /**
+   * Drops the buckets that are full again if there are too many buckets. If
+   * most buckets are in use, the next eviction waits until the number of
+   * buckets doubled.
+   */
+  private void evictFullBuckets() {
+    int threshold = this.evictionThreshold.get();
+    if (this.buckets.size() < threshold || !this.evictionThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+      return;
+    }
+    this.buckets.values().removeIf(TokenBucket::isFull);
+    this.evictionThreshold.set(Math.max(MAX_BUCKETS, this.buckets.size() * 2));
+  }
+
+  private static void checkLimit(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+    }
+  }
+
+  private TokenBucket newBucket(String service) {
+    double[] limit = this.serviceLimits.get(service);
+    return limit == null ? new TokenBucket(this.permitsPerSecond, this.burst)
+        : new TokenBucket(limit[0], (int) limit[1]);
+  }
+
+  /**
+   * Returns the service of a request, the first label of its host.
+   *
+   * @param request The request
+   * @return The service name in lower case
+   */
+  static String getService(Request request) {
+    String host = request.getHost();
+    int i = host.indexOf('.');
+    return (i > 0 ? host.substring(0, i) : host).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Returns the operation of a request, its method and its path with project
+   * ids, resource ids and numbers replaced by "*".
+   *
+   * @param request The request
+   * @return The operation, method and path separated by a space
+   */
+  static String getOperation(Request request) {
+    String[] segments = request.getPath().split("/");
+    StringBuilder operation = new StringBuilder(request.getMethod().name()).append(' ');
+    for (String segment : segments) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      operation.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "*" : segment);
+    }
+    return operation.toString();
+  }
+}
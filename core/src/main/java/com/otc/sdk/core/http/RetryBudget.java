@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a share of the requests sent, so that retries can not
+ * multiply the load on an endpoint that is already failing.
+ * Every request deposits {@code retryRatio} of a retry into the budget and
+ * every retry withdraws one. A budget can be shared by several executors.
+ * The budget is lock-free and safe to use from many threads.
+ */
+public class RetryBudget {
+  private static final long SCALE = 1000L;
+
+  private final AtomicLong balance;
+  private final long deposit;
+  private final long capacity;
+
+  /**
+   * Constructor to initialize the budget.
+   *
+   * @param retryRatio   Share of requests that may be retried, e.g. 0.1 for 10%
+   * @param minRetries   Retries available before any request was sent
+   * @param maxRetries   Maximum number of retries that can be saved up
+   */
+  public RetryBudget(double retryRatio, int minRetries, int maxRetries) {
+    if (retryRatio < 0 || minRetries < 0 || maxRetries < minRetries) {
+      throw new IllegalArgumentException("invalid retry budget");
+    }
+    this.deposit = (long) (retryRatio * SCALE);
+    this.capacity = maxRetries * SCALE;
+    this.balance = new AtomicLong(minRetries * SCALE);
+  }
+
+  /**
+   * Creates a budget allowing 10% retries with 10 retries available up front.
+   *
+   * @return A new RetryBudget
+   */
+  public static RetryBudget defaultBudget() {
+    return new RetryBudget(0.1, 10, 100);
+  }
+
+  /**
+   * Records that a request has been sent.
+   */
+  public void onRequest() {
+    long current;
+    do {
+      current = this.balance.get();
+      if (current >= this.capacity) {
+        return;
+      }
+    } while (!this.balance.compareAndSet(current, Math.min(this.capacity, current + this.deposit)));
+  }
+
+  /**
+   * Withdraws one retry from the budget.
+   *
+   * @return true if a retry may be sent, false if the budget is exhausted
+   */
+  public boolean tryAcquireRetry() {
+    long current;
+    do {
+      current = this.balance.get();
+      if (current < SCALE) {
+        return false;
+      }
+    } while (!this.balance.compareAndSet(current, current - SCALE));
+    return true;
+  }
+
+  /**
+   * Returns the number of retries currently available.
+   *
+   * @return The available retries
+   */
+  public long getAvailableRetries() {
+    return this.balance.get() / SCALE;
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+/**
+ * RetryPolicy decides whether a failed request is sent again and how long to
+ * wait before the next attempt.
+ * Delays grow exponentially from the base delay and use full jitter, a
+ * Retry-After header sent by the server takes precedence.
+ * Requests with a method that is not idempotent (POST, PATCH) are only
+ * retried when they could not be sent at all, unless
+ * {@link #setRetryNonIdempotent(boolean)} is enabled.
+ * Failures that do not go away by sending again, an unknown host or a failed
+ * TLS handshake, are never retried.
+ */
+public class RetryPolicy {
+  private static final long MAX_RETRY_AFTER_SECONDS = Long.MAX_VALUE / 1000L;
+
+  private int maxAttempts = 3;
+  private long baseDelayMillis = 100L;
+  private long maxDelayMillis = 10_000L;
+  private long maxRetryAfterMillis = 60_000L;
+  private boolean retryNonIdempotent = false;
+  private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(429, 500, 502, 503, 504));
+  private RetryBudget retryBudget = RetryBudget.defaultBudget();
+
+  /**
+   * Checks if a request should be sent again after it received a response.
+   *
+   * @param httpMethod HTTP method of the request
+   * @param statusCode Status code of the response
+   * @param attempt    Number of attempts made so far, starting at 1
+   * @return true if the request should be retried
+   */
+  public boolean shouldRetry(HttpMethodName httpMethod, int statusCode, int attempt) {
+    if (attempt >= this.maxAttempts || !this.retryableStatusCodes.contains(statusCode)) {
+      return false;
+    }
+    // 429 and 503 are rejected before the request is processed
+    boolean rejected = statusCode == 429 || statusCode == 503;
+    return rejected || httpMethod.isIdempotent() || this.retryNonIdempotent;
+  }
+
+  /**
+   * Checks if a request should be sent again after it failed with an
+   * exception.
+   *
+   * @param httpMethod HTTP method of the request
+   * @param exception  The exception raised by the HTTP client
+   * @param attempt    Number of attempts made so far, starting at 1
+   * @return true if the request should be retried
+   */
+  public boolean shouldRetry(HttpMethodName httpMethod, IOException exception, int attempt) {
+    if (attempt >= this.maxAttempts || !isTransient(exception)) {
+      return false;
+    }
+    // the request did not reach the server if the connection failed
+    return exception instanceof ConnectException || httpMethod.isIdempotent() || this.retryNonIdempotent;
+  }
+
+  /**
+   * Checks if a failure may not happen again on the next attempt. DNS
+   * failures and TLS handshake failures, e.g. an untrusted certificate, are
+   * permanent.
+   *
+   * @param exception The exception raised by the HTTP client
+   * @return true if the failure may be transient
+   */
+  static boolean isTransient(IOException exception) {
+    return !(exception instanceof UnknownHostException || exception instanceof SSLHandshakeException
+        || exception instanceof SSLPeerUnverifiedException);
+  }
+
+  /**
+   * Computes the delay before the next attempt.
+   *
+   * @param attempt    Number of attempts made so far, starting at 1
+   * @param retryAfter Value of the Retry-After response header, can be null
+   * @return The delay in milliseconds, or -1 if the server asked to wait
+   *         longer than the maximum Retry-After delay
+   */
+  public long getDelayMillis(int attempt, String retryAfter) {
+    long exponential = this.baseDelayMillis << Math.min(attempt - 1, 30);
+    long cap = Math.min(this.maxDelayMillis, exponential < 0 ? Long.MAX_VALUE : exponential);
+    long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+
+    long serverDelay = parseRetryAfter(retryAfter);
+    if (serverDelay > this.maxRetryAfterMillis) {
+      return -1L;
+    }
+    return Math.max(delay, serverDelay);
+  }
+
+  /**
+   * Parses a Retry-After header given either in seconds or as HTTP date.
+   *
+   * @param retryAfter The header value, can be null
+   * @return The delay in milliseconds, 0 if the header is missing or invalid
+   */
+  static long parseRetryAfter(String retryAfter) {
+    if (retryAfter == null || retryAfter.trim().isEmpty()) {
+      return 0L;
+    }
+    String value = retryAfter.trim();
+    if (value.length() > 18 && value.chars().allMatch(Character::isDigit)) {
+      // too large for a long, the server asks to wait longer than any maximum
+      return Long.MAX_VALUE;
+    }
+    try {
+      long seconds = Long.parseLong(value);
+      // clamp before converting to milliseconds to avoid an overflow
+      return seconds <= 0L ? 0L : seconds > MAX_RETRY_AFTER_SECONDS ? Long.MAX_VALUE : seconds * 1000L;
+    } catch (NumberFormatException e) {
+      try {
+        ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+        return Math.max(0L, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+      } catch (DateTimeParseException ex) {
+        return 0L;
+      }
+    }
+  }
+
+  public int getMaxAttempts() {
+    return this.maxAttempts;
+  }
+
+  /**
+   * Sets the maximum number of attempts including the first one.
+   *
+   * @param maxAttempts The maximum number of attempts, at least 1
+   */
+  public void setMaxAttempts(int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1");
+    }
+    this.maxAttempts = maxAttempts;
+  }
+
+  public long getBaseDelayMillis() {
+    return this.baseDelayMillis;
+  }
+
+  /**
+   * Sets the delay before the first retry, doubled for every further retry.
+   *
+   * @param baseDelayMillis The base delay in milliseconds
+   */
+  public void setBaseDelayMillis(long baseDelayMillis) {
+    this.baseDelayMillis = baseDelayMillis;
+  }
+
+  public long getMaxDelayMillis() {
+    return this.maxDelayMillis;
+  }
+
+  /**
+   * Sets the upper bound of the exponential delay.
+   *
+   * @param maxDelayMillis The maximum delay in milliseconds
+   */
+  public void setMaxDelayMillis(long maxDelayMillis) {
+    this.maxDelayMillis = maxDelayMillis;
+  }
+
+  public long getMaxRetryAfterMillis() {
+    return this.maxRetryAfterMillis;
+  }
+
+  /**
+   * Sets the longest Retry-After delay that is waited for. If the server asks
+   * for a longer delay, the response is returned without retrying.
+   *
+   * @param maxRetryAfterMillis The maximum Retry-After delay in milliseconds
+   */
+  public void setMaxRetryAfterMillis(long maxRetryAfterMillis) {
+    this.maxRetryAfterMillis = maxRetryAfterMillis;
+  }
+
+  public boolean isRetryNonIdempotent() {
+    return this.retryNonIdempotent;
+  }
+
+  /**
+   * Sets whether POST and PATCH requests are retried after they may have
+   * reached the server.
+   *
+   * @param retryNonIdempotent true to retry non idempotent requests
+   */
+  public void setRetryNonIdempotent(boolean retryNonIdempotent) {
+    this.retryNonIdempotent = retryNonIdempotent;
+  }
+
+  public Set<Integer> getRetryableStatusCodes() {
+    return this.retryableStatusCodes;
+  }
+
+  /**
+   * Sets the response status codes that are retried.
+   *
+   * @param retryableStatusCodes The status codes, default is 429, 500, 502, 503
+   *                             and 504
+   */
+  public void setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+    this.retryableStatusCodes = retryableStatusCodes;
+  }
+
+  public RetryBudget getRetryBudget() {
+    return this.retryBudget;
+  }
+
+  /**
+   * Sets the retry budget. Executors sharing a policy share its budget.
+   *
+   * @param retryBudget The retry budget, null for unlimited retries
+   */
+  public void setRetryBudget(RetryBudget retryBudget) {
+    this.retryBudget = retryBudget;
+  }
+}
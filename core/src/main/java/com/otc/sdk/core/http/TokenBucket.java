@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * Instead of a token count the bucket keeps the time at which it will be
+ * full again, so a permit is taken with a single compare-and-set (generic
+ * cell rate algorithm).
+ */
+public class TokenBucket {
+  private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+  private final long intervalNanos;
+  private final long burstNanos;
+
+  /**
+   * Constructor to initialize the token bucket.
+   *
+   * @param permitsPerSecond Rate at which tokens are added
+   * @param burst            Number of tokens the bucket holds
+   */
+  public TokenBucket(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+    }
+    this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+    this.burstNanos = this.intervalNanos * burst;
+  }
+
+  /**
+   * Takes a permit if one is available now.
+   *
+   * @return true if a permit was taken, false otherwise
+   */
+  public boolean tryAcquire() {
+    return this.reserve(System.nanoTime(), false) == 0L;
+  }
+
+  /**
+   * Reserves a permit, waiting for it if the bucket is empty. The permit is
+   * counted even if the caller does not wait.
+   *
+   * @return The time in nanoseconds until the reserved permit may be used
+   */
+  public long reserve() {
+    return this.reserve(System.nanoTime(), true);
+  }
+
+  /**
+   * Checks if the bucket is full, i.e. no permit was taken for so long that
+   * it behaves like a new bucket.
+   *
+   * @return true if the bucket is full
+   */
+  public boolean isFull() {
+    long full = this.fullAt.get();
+    return full == Long.MIN_VALUE || full - System.nanoTime() <= 0L;
+  }
+
+  private long reserve(long now, boolean wait) {
+    while (true) {
+      long current = this.fullAt.get();
+      long next = Math.max(current, now) + this.intervalNanos;
+      long waitNanos = next - now - this.burstNanos;
+      if (waitNanos > 0 && !wait) {
+        return waitNanos;
+      }
+      if (this.fullAt.compareAndSet(current, next)) {
+        return Math.max(0L, waitNanos);
+      }
+    }
+  }
+}
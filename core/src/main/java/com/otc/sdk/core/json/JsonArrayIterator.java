@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Iterator over the elements of a JSON array that reads one element at a time
+ * from a JsonReader, so memory use does not grow with the size of the array.
+ * Read failures are thrown as UncheckedIOException.
+ *
+ * @param <E> The element type
+ */
+public class JsonArrayIterator<E> implements Iterator<E>, Closeable {
+  private final JsonReader reader;
+  private final ElementReader<E> elementReader;
+  private boolean hasNext;
+
+  /**
+   * Reads a single array element.
+   *
+   * @param <E> The element type
+   */
+  public interface ElementReader<E> {
+    /**
+     * Reads the next value of the reader, consuming it completely.
+     *
+     * @param reader The reader, positioned before the element
+     * @return The element
+     * @throws IOException if the element can not be read
+     */
+    E read(JsonReader reader) throws IOException;
+  }
+
+  /**
+   * Constructor to initialize the JsonArrayIterator.
+   *
+   * @param reader        The reader, positioned before the array
+   * @param found         false if the array does not exist, the iterator is
+   *                      then empty
+   * @param elementReader Reads one element
+   * @throws IOException if the reader is not positioned before an array
+   */
+  public JsonArrayIterator(JsonReader reader, boolean found, ElementReader<E> elementReader) throws IOException {
+    this.reader = reader;
+    this.elementReader = elementReader;
+    if (found && reader.peek() == JsonToken.BEGIN_ARRAY) {
+      reader.beginArray();
+      this.hasNext = reader.hasNext();
+    } else if (found && reader.peek() != JsonToken.NULL) {
+      throw new IOException("expected an array but was " + reader.peek());
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.hasNext;
+  }
+
+  @Override
+  public E next() {
+    if (!this.hasNext) {
+      throw new NoSuchElementException();
+    }
+    try {
+      E element = this.elementReader.read(this.reader);
+      this.hasNext = this.reader.hasNext();
+      return element;
+    } catch (IOException e) {
+      this.hasNext = false;
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Closes the reader and the underlying stream.
+   */
+  @Override
+  public void close() throws IOException {
+    this.hasNext = false;
+    this.reader.close();
+  }
+}
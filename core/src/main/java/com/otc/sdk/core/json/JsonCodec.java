@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Reads and writes a model with Gson's streaming JsonReader and JsonWriter.
+ * Codecs of classes annotated with @JsonModel are generated at build time by
+ * the annotation processor of the otc-sdk-v1-codegen module and named after
+ * the class with the suffix JsonCodec, e.g. VpcJsonCodec.INSTANCE.
+ * A codec can be passed to JsonStreams.elements to stream typed elements.
+ *
+ * @param <T> The model type
+ */
+public interface JsonCodec<T> extends JsonArrayIterator.ElementReader<T>, JsonCodecs.ElementWriter<T> {
+  /**
+   * Reads a model from the next value of the reader. Unknown fields are
+   * skipped.
+   *
+   * @param reader The reader
+   * @return The model, null for a JSON null
+   * @throws IOException if the value can not be read
+   */
+  @Override
+  T read(JsonReader reader) throws IOException;
+
+  /**
+   * Writes a model as JSON object. Null fields are omitted.
+   *
+   * @param writer The writer
+   * @param value  The model, written as JSON null if null
+   * @throws IOException if writing fails
+   */
+  @Override
+  void write(JsonWriter writer, T value) throws IOException;
+
+  /**
+   * Reads a model from a stream. The stream is closed.
+   *
+   * @param in The JSON document, UTF-8 encoded
+   * @return The model
+   * @throws IOException if the document can not be read
+   */
+  default T fromJson(InputStream in) throws IOException {
+    try (JsonReader reader = JsonStreams.newReader(in)) {
+      return this.read(reader);
+    }
+  }
+
+  /**
+   * Reads a model from a string.
+   *
+   * @param json The JSON document
+   * @return The model
+   */
+  default T fromJson(String json) {
+    try (JsonReader reader = new JsonReader(new StringReader(json))) {
+      return this.read(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes a model to a string.
+   *
+   * @param value The model
+   * @return The JSON document
+   */
+  default String toJson(T value) {
+    StringWriter out = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(out)) {
+      this.write(writer, value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Writes a model to UTF-8 encoded bytes, e.g. for a request body.
+   *
+   * @param value The model
+   * @return The JSON document as stream
+   */
+  default InputStream toJsonStream(T value) {
+    return new ByteArrayInputStream(this.toJson(value).getBytes(StandardCharsets.UTF_8));
+  }
+}
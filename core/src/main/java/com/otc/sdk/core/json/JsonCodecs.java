@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * JsonCodecs class provides the reading and writing methods used by generated
+ * JSON codecs. JSON null is read as null for all types.
+ */
+public class JsonCodecs {
+  /**
+   * Writes a single value.
+   *
+   * @param <E> The value type
+   */
+  public interface ElementWriter<E> {
+    /**
+     * Writes the value.
+     *
+     * @param writer The writer
+     * @param value  The value
+     * @throws IOException if writing fails
+     */
+    void write(JsonWriter writer, E value) throws IOException;
+  }
+
+  private static boolean nextNull(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return true;
+    }
+    return false;
+  }
+
+  public static String readString(JsonReader reader) throws IOException {
+    return nextNull(reader) ? null : reader.nextString();
+  }
+
+  public static Integer readInteger(JsonReader reader) throws IOException {
+    return nextNull(reader) ? null : reader.nextInt();
+  }
+
+  public static Long readLong(JsonReader reader) throws IOException {
+    return nextNull(reader) ? null : reader.nextLong();
+  }
+
+  public static Double readDouble(JsonReader reader) throws IOException {
+    return nextNull(reader) ? null : reader.nextDouble();
+  }
+
+  public static Boolean readBoolean(JsonReader reader) throws IOException {
+    return nextNull(reader) ? null : reader.nextBoolean();
+  }
+
+  /**
+   * Reads an array into a list.
+   *
+   * @param <E>           The element type
+   * @param reader        The reader
+   * @param elementReader Reads one element
+   * @return The list, null for a JSON null
+   * @throws IOException if the array can not be read
+   */
+  public static <E> List<E> readList(JsonReader reader, JsonArrayIterator.ElementReader<E> elementReader)
+      throws IOException {
+    if (nextNull(reader)) {
+      return null;
+    }
+    List<E> list = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      list.add(elementReader.read(reader));
+    }
+    reader.endArray();
+    return list;
+  }
+
+  public static void writeString(JsonWriter writer, String value) throws IOException {
+    writer.value(value);
+  }
+
+  public static void writeNumber(JsonWriter writer, Number value) throws IOException {
+    writer.value(value);
+  }
+
+  public static void writeBoolean(JsonWriter writer, Boolean value) throws IOException {
+    writer.value(value);
+  }
+
+  /**
+   * Writes a list as array.
+   *
+   * @param <E>           The element type
+   * @param writer        The writer
+   * @param list          The list, written as JSON null if null
+   * @param elementWriter Writes one element
+   * @throws IOException if writing fails
+   */
+  public static <E> void writeList(JsonWriter writer, List<E> list, ElementWriter<? super E> elementWriter)
+      throws IOException {
+    if (list == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginArray();
+    for (E element : list) {
+      elementWriter.write(writer, element);
+    }
+    writer.endArray();
+  }
+}
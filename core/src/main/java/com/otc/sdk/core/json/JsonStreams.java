@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * JsonStreams class provides methods for extracting parts of a JSON document
+ * directly from a stream with Gson's JsonReader.
+ * Only the extracted value is held in memory, all other values are skipped
+ * while reading. Paths are field names separated by dots, e.g. "vpcs" or
+ * "token.catalog", starting at the root object.
+ */
+public class JsonStreams {
+  /**
+   * Returns an iterator over the elements of an array, parsed one at a time
+   * into a JsonElement.
+   *
+   * @param in   The JSON document, UTF-8 encoded, closed with the iterator
+   * @param path Path of the array
+   * @return The iterator, empty if the path does not exist
+   * @throws IOException if the document can not be read
+   */
+  public static JsonArrayIterator<JsonElement> elements(InputStream in, String path) throws IOException {
+    return elements(in, path, JsonParser::parseReader);
+  }
+
+  /**
+   * Returns an iterator over the elements of an array, each read by the
+   * given element reader.
+   *
+   * @param <E>           The element type
+   * @param in            The JSON document, UTF-8 encoded, closed with the
+   *                      iterator
+   * @param path          Path of the array
+   * @param elementReader Reads one element
+   * @return The iterator, empty if the path does not exist
+   * @throws IOException if the document can not be read
+   */
+  public static <E> JsonArrayIterator<E> elements(InputStream in, String path,
+      JsonArrayIterator.ElementReader<E> elementReader) throws IOException {
+    JsonReader reader = newReader(in);
+    try {
+      return new JsonArrayIterator<>(reader, seek(reader, path), elementReader);
+    } catch (IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads a single value into a JsonElement. The stream is closed.
+   *
+   * @param in   The JSON document, UTF-8 encoded
+   * @param path Path of the value
+   * @return The value, null if the path does not exist
+   * @throws IOException if the document can not be read
+   */
+  public static JsonElement readValue(InputStream in, String path) throws IOException {
+    try (JsonReader reader = newReader(in)) {
+      return seek(reader, path) ? JsonParser.parseReader(reader) : null;
+    }
+  }
+
+  /**
+   * Creates a lenient JsonReader for a UTF-8 encoded stream.
+   *
+   * @param in The JSON document
+   * @return The reader
+   */
+  public static JsonReader newReader(InputStream in) {
+    JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    reader.setStrictness(Strictness.LENIENT);
+    return reader;
+  }
+
+  /**
+   * Advances a reader positioned before the root object to the value of a
+   * path, skipping all other values.
+   *
+   * @param reader The reader
+   * @param path   Path of the value, empty for the root value
+   * @return true if the reader is positioned before the value, false if the
+   *         path does not exist
+   * @throws IOException if the document can not be read
+   */
+  public static boolean seek(JsonReader reader, String path) throws IOException {
+    if (path == null || path.isEmpty()) {
+      return true;
+    }
+    for (String name : path.split("\\.")) {
+      if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+        return false;
+      }
+      reader.beginObject();
+      boolean found = false;
+      while (reader.hasNext()) {
+        if (reader.nextName().equals(name)) {
+          found = true;
+          break;
+        }
+        reader.skipValue();
+      }
+      if (!found) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
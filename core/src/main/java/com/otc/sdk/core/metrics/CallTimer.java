@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+/**
+ * Timing of the request an Apache HttpClient executes in the current thread.
+ * ApacheHttpTransport starts a timer around the execution. The socket factory
+ * and the request executor of the clients created by SSLCipherSuiteUtil
+ * report connecting, the TLS handshake and the response to it, as Apache
+ * HttpClient executes these steps in the calling thread.
+ * Other HTTP clients only report the time until the response headers.
+ */
+public final class CallTimer {
+  private static final ThreadLocal<CallTimer> CURRENT = new ThreadLocal<>();
+
+  private final RequestMetrics metrics;
+  private final long start;
+  private long connectStart;
+  private long tlsStart;
+  private boolean acquired;
+  private long responseTime;
+
+  private CallTimer(RequestMetrics metrics, long start) {
+    this.metrics = metrics;
+    this.start = start;
+  }
+
+  /**
+   * Starts timing a call in the current thread.
+   *
+   * @param metrics The metrics the phases are recorded in
+   * @return The timer, to be stopped when the call returned
+   */
+  public static CallTimer start(RequestMetrics metrics) {
+    CallTimer timer = new CallTimer(metrics, System.nanoTime());
+    CURRENT.set(timer);
+    return timer;
+  }
+
+  /**
+   * Returns the timer of the call executing in the current thread.
+   *
+   * @return The timer, null if no call is timed
+   */
+  public static CallTimer current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Stops timing the call. If no response was reported, the time since the
+   * start is recorded as time to first byte.
+   *
+   * @return The time the response headers were received, in System.nanoTime
+   */
+  public long stop() {
+    CURRENT.remove();
+    if (this.responseTime == 0L) {
+      this.responseTime = System.nanoTime();
+      this.metrics.recordPhase(RequestPhase.TIME_TO_FIRST_BYTE, this.responseTime - this.start);
+    }
+    return this.responseTime;
+  }
+
+  /**
+   * Reports that a new connection starts connecting.
+   */
+  public void connectStarted() {
+    long now = System.nanoTime();
+    this.acquired(now);
+    this.connectStart = now;
+    this.tlsStart = 0L;
+  }
+
+  /**
+   * Reports that the TCP connection is established and the TLS handshake
+   * starts.
+   */
+  public void tlsStarted() {
+    long now = System.nanoTime();
+    this.metrics.recordPhase(RequestPhase.CONNECT, now - this.connectStart);
+    this.tlsStart = now;
+  }
+
+  /**
+   * Reports that the new connection is established.
+   */
+  public void connected() {
+    long now = System.nanoTime();
+    if (this.tlsStart != 0L) {
+      this.metrics.recordPhase(RequestPhase.TLS_HANDSHAKE, now - this.tlsStart);
+    } else {
+      this.metrics.recordPhase(RequestPhase.CONNECT, now - this.connectStart);
+    }
+  }
+
+  /**
+   * Reports that the request is sent.
+   *
+   * @return The time the request is sent, in System.nanoTime
+   */
+  public long requestStarted() {
+    long now = System.nanoTime();
+    this.acquired(now);
+    return now;
+  }
+
+  /**
+   * Reports that the response headers were received.
+   *
+   * @param requestStart The time returned by requestStarted
+   */
+  public void responseReceived(long requestStart) {
+    this.responseTime = System.nanoTime();
+    this.metrics.recordPhase(RequestPhase.TIME_TO_FIRST_BYTE, this.responseTime - requestStart);
+  }
+
+  private void acquired(long now) {
+    if (!this.acquired) {
+      this.acquired = true;
+      this.metrics.recordPhase(RequestPhase.CONNECTION_ACQUIRE, now - this.start);
+    }
+  }
+}
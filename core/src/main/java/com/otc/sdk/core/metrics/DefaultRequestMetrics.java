@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestMetrics keeping a LatencyHistogram per phase and LongAdder counters
+ * of responses by status class and of failures in memory. Use
+ * JmxMetricsExporter to make them visible in JMX.
+ */
+public class DefaultRequestMetrics implements RequestMetrics, RequestMetricsMXBean {
+  private final Map<RequestPhase, LatencyHistogram> histograms = new EnumMap<>(RequestPhase.class);
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder[] responses = new LongAdder[6];
+
+  /**
+   * Constructor to initialize the DefaultRequestMetrics.
+   */
+  public DefaultRequestMetrics() {
+    for (RequestPhase phase : RequestPhase.values()) {
+      this.histograms.put(phase, new LatencyHistogram());
+    }
+    for (int i = 0; i < this.responses.length; ++i) {
+      this.responses[i] = new LongAdder();
+    }
+  }
+
+  @Override
+  public void recordPhase(RequestPhase phase, long nanos) {
+    this.histograms.get(phase).record(nanos);
+  }
+
+  @Override
+  public void recordResponse(int statusCode) {
+    int statusClass = statusCode / 100;
+    this.responses[statusClass >= 1 && statusClass <= 5 ? statusClass : 0].increment();
+  }
+
+  @Override
+  public void recordFailure() {
+    this.failures.increment();
+  }
+
+  /**
+   * Returns the histogram of a phase.
+   *
+   * @param phase The phase
+   * @return The histogram
+   */
+  public LatencyHistogram getHistogram(RequestPhase phase) {
+    return this.histograms.get(phase);
+  }
+
+  @Override
+  public long getRequests() {
+    long requests = this.failures.sum();
+    for (LongAdder adder : this.responses) {
+      requests += adder.sum();
+    }
+    return requests;
+  }
+
+  @Override
+  public long getFailures() {
+    return this.failures.sum();
+  }
+
+  @Override
+  public long getResponses2xx() {
+    return this.responses[2].sum();
+  }
+
+  @Override
+  public long getResponses3xx() {
+    return this.responses[3].sum();
+  }
+
+  @Override
+  public long getResponses4xx() {
+    return this.responses[4].sum();
+  }
+
+  @Override
+  public long getResponses5xx() {
+    return this.responses[5].sum();
+  }
+
+  @Override
+  public void reset() {
+    for (LatencyHistogram histogram : this.histograms.values()) {
+      histogram.reset();
+    }
+    for (LongAdder adder : this.responses) {
+      adder.reset();
+    }
+    this.failures.reset();
+  }
+}
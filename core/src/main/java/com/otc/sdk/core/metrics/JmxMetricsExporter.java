@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registers DefaultRequestMetrics in the platform MBean server, so they can
+ * be inspected with JConsole or any JMX client. The counters are registered
+ * as com.otc.sdk:type=RequestMetrics,name=&lt;name&gt; and the histogram of
+ * every phase as com.otc.sdk:type=RequestMetrics,name=&lt;name&gt;,phase=&lt;phase&gt;.
+ */
+public final class JmxMetricsExporter {
+  public static final String DOMAIN = "com.otc.sdk";
+
+  private JmxMetricsExporter() {
+  }
+
+  /**
+   * Registers the MBeans of metrics.
+   *
+   * @param name    The name of the metrics, e.g. the name of the client
+   * @param metrics The metrics to export
+   * @throws JMException if the MBeans can not be registered, e.g. because the
+   *                     name is already in use
+   */
+  public static void register(String name, DefaultRequestMetrics metrics) throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    server.registerMBean(metrics, objectName(name, null));
+    for (RequestPhase phase : RequestPhase.values()) {
+      server.registerMBean(metrics.getHistogram(phase), objectName(name, phase));
+    }
+  }
+
+  /**
+   * Unregisters the MBeans registered with a name.
+   *
+   * @param name The name of the metrics
+   * @throws JMException if the MBeans can not be unregistered
+   */
+  public static void unregister(String name) throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (ObjectName objectName : server.queryNames(new ObjectName(DOMAIN + ":type=RequestMetrics,name="
+        + ObjectName.quote(name) + ",*"), null)) {
+      server.unregisterMBean(objectName);
+    }
+    ObjectName counters = objectName(name, null);
+    if (server.isRegistered(counters)) {
+      server.unregisterMBean(counters);
+    }
+  }
+
+  private static ObjectName objectName(String name, RequestPhase phase) throws JMException {
+    String objectName = DOMAIN + ":type=RequestMetrics,name=" + ObjectName.quote(name);
+    if (phase != null) {
+      objectName += ",phase=" + phase.name().toLowerCase(Locale.ROOT);
+    }
+    return new ObjectName(objectName);
+  }
+}
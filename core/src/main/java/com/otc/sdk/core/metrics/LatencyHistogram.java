@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of
+ * HdrHistogram.
+ * Values below 128 ns are counted exactly, larger values in 64 buckets per
+ * power of two, so a percentile is reported with a relative error below
+ * 1.6%. Values up to 2^43 ns (about 2.4 hours) are tracked, larger values
+ * are counted in the highest bucket. Count, mean and maximum are exact.
+ * Recording takes a few atomic increments and never allocates.
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private static final int MAX_VALUE_BITS = 43;
+  private static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 2) * HALF_SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds, negative values are recorded as 0
+   */
+  public void record(long nanos) {
+    long value = Math.max(0L, nanos);
+    this.counts.incrementAndGet(index(value));
+    this.count.increment();
+    this.sum.add(value);
+    this.max.accumulate(value);
+  }
+
+  @Override
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  /**
+   * Returns the mean of the recorded latencies.
+   *
+   * @return The mean in nanoseconds, 0 if nothing was recorded
+   */
+  public double getMean() {
+    long n = this.count.sum();
+    return n == 0 ? 0.0 : this.sum.sum() / (double) n;
+  }
+
+  /**
+   * Returns the largest recorded latency.
+   *
+   * @return The maximum in nanoseconds
+   */
+  public long getMax() {
+    return this.max.get();
+  }
+
+  /**
+   * Returns the latency at a percentile, i.e. the highest value of the bucket
+   * the percentile falls into.
+   *
+   * @param percentile The percentile between 0 and 100
+   * @return The latency in nanoseconds, 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long total = 0L;
+    for (int i = 0; i < BUCKETS; ++i) {
+      snapshot[i] = this.counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+    long seen = 0L;
+    for (int i = 0; i < BUCKETS; ++i) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestEquivalentValue(i), this.getMax());
+      }
+    }
+    return this.getMax();
+  }
+
+  @Override
+  public double getMeanMicros() {
+    return this.getMean() / 1000.0;
+  }
+
+  @Override
+  public long getMaxMicros() {
+    return TimeUnit.NANOSECONDS.toMicros(this.getMax());
+  }
+
+  @Override
+  public long getP50Micros() {
+    return TimeUnit.NANOSECONDS.toMicros(this.getValueAtPercentile(50.0));
+  }
+
+  @Override
+  public long getP90Micros() {
+    return TimeUnit.NANOSECONDS.toMicros(this.getValueAtPercentile(90.0));
+  }
+
+  @Override
+  public long getP99Micros() {
+    return TimeUnit.NANOSECONDS.toMicros(this.getValueAtPercentile(99.0));
+  }
+
+  @Override
+  public long getP999Micros() {
+    return TimeUnit.NANOSECONDS.toMicros(this.getValueAtPercentile(99.9));
+  }
+
+  /**
+   * Removes all recorded values. Values recorded concurrently may be lost.
+   */
+  @Override
+  public void reset() {
+    for (int i = 0; i < BUCKETS; ++i) {
+      this.counts.set(i, 0L);
+    }
+    this.count.reset();
+    this.sum.reset();
+    this.max.reset();
+  }
+
+  private static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int index = shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    return Math.min(index, BUCKETS - 1);
+  }
+
+  private static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / HALF_SUB_BUCKETS - 1;
+    long subBucket = index - (long) shift * HALF_SUB_BUCKETS;
+    return ((subBucket + 1L) << shift) - 1L;
+  }
+}
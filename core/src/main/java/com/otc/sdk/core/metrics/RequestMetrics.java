@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+/**
+ * Receives the latencies and outcomes of requests sent by the transports and
+ * executors of the SDK. Implementations must be thread-safe and fast, they are
+ * called on the request path. DefaultRequestMetrics keeps histograms and
+ * counters in memory, other implementations can forward to a metrics library.
+ */
+public interface RequestMetrics {
+
+  /**
+   * Records the duration of a phase of a request.
+   *
+   * @param phase The phase
+   * @param nanos The duration in nanoseconds
+   */
+  void recordPhase(RequestPhase phase, long nanos);
+
+  /**
+   * Records a received response.
+   *
+   * @param statusCode The HTTP status code of the response
+   */
+  void recordResponse(int statusCode);
+
+  /**
+   * Records a request that failed without a response.
+   */
+  void recordFailure();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+/**
+ * JMX view of the counters of DefaultRequestMetrics. The latencies of the
+ * phases are exported as separate LatencyHistogramMXBeans.
+ */
+public interface RequestMetricsMXBean {
+
+  long getRequests();
+
+  long getFailures();
+
+  long getResponses2xx();
+
+  long getResponses3xx();
+
+  long getResponses4xx();
+
+  long getResponses5xx();
+
+  /**
+   * Resets the counters and the histograms of all phases.
+   */
+  void reset();
+}
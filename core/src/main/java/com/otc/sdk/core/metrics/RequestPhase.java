@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.metrics;
+
+/**
+ * Phases of a request whose latencies are recorded by RequestMetrics.
+ */
+public enum RequestPhase {
+  /**
+   * Hashing the body and signing an attempt, or attaching the token with
+   * token authentication.
+   */
+  SIGN,
+
+  /**
+   * Waiting for a connection, from the start of the call until a new
+   * connection starts connecting or a pooled connection is used. Includes the
+   * DNS lookup with OkHttp.
+   */
+  CONNECTION_ACQUIRE,
+
+  /**
+   * Establishing the TCP connection of a new connection.
+   */
+  CONNECT,
+
+  /**
+   * The TLS handshake of a new connection.
+   */
+  TLS_HANDSHAKE,
+
+  /**
+   * From sending the request until the response headers are received.
+   */
+  TIME_TO_FIRST_BYTE,
+
+  /**
+   * From receiving the response headers until the body was read completely.
+   */
+  READ_BODY
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.trace;
+
+import com.otc.sdk.service.Request;
+
+/**
+ * The trace of one sampled request, spanning all of its attempts.
+ * The traceparent header is injected after the request was signed, so every
+ * attempt carries the id of its own send span. Signer does not sign the
+ * traceparent and tracestate headers, so the signature stays valid.
+ */
+public final class RequestTrace {
+  public static final String SIGN = "sign";
+  public static final String SEND = "send";
+  public static final String RECEIVE = "receive";
+
+  private final SpanListener listener;
+  private final String traceId;
+  private final String parentSpanId;
+
+  RequestTrace(SpanListener listener, String traceId, String parentSpanId) {
+    this.listener = listener;
+    this.traceId = traceId;
+    this.parentSpanId = parentSpanId;
+  }
+
+  public String getTraceId() {
+    return this.traceId;
+  }
+
+  public String getParentSpanId() {
+    return this.parentSpanId;
+  }
+
+  /**
+   * Sets the traceparent header of a signed request to a new sampled span.
+   * A tracestate header of the request is kept as it is.
+   *
+   * @param request The signed request
+   * @return The id of the new span, to be recorded as send span
+   */
+  public String inject(Request request) {
+    String spanId = TraceContext.newSpanId();
+    request.removeHeader(TraceContext.TRACEPARENT);
+    request.addHeader(TraceContext.TRACEPARENT, new TraceContext(this.traceId, spanId, true).toTraceparent());
+    return spanId;
+  }
+
+  /**
+   * Reports a finished span to the listener.
+   *
+   * @param name         The name of the span, e.g. RequestTrace.SEND
+   * @param spanId       The id of the span
+   * @param parentSpanId The id of the parent span, null for a child of the
+   *                     parent of the request
+   * @param startNanos   The start of the span as returned by System.nanoTime
+   * @param attempt      The attempt of the request, starting at 1
+   * @param statusCode   The HTTP status code, 0 if none was received yet, -1
+   *                     if the attempt failed
+   */
+  public void record(String name, String spanId, String parentSpanId, long startNanos, int attempt,
+      int statusCode) {
+    long durationNanos = System.nanoTime() - startNanos;
+    long startTimeMillis = System.currentTimeMillis() - durationNanos / 1000000L;
+    this.listener.onSpan(new Span(name, this.traceId, spanId, parentSpanId == null ? this.parentSpanId : parentSpanId,
+        startTimeMillis, durationNanos, attempt, statusCode));
+  }
+}
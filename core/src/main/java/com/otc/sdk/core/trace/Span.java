@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.trace;
+
+/**
+ * A finished span of a request, reported to a SpanListener.
+ * Spans are named "sign", "send" and "receive". The send span of an attempt
+ * is the parent id of the traceparent header sent with the attempt.
+ */
+public final class Span {
+  private final String name;
+  private final String traceId;
+  private final String spanId;
+  private final String parentSpanId;
+  private final long startTimeMillis;
+  private final long durationNanos;
+  private final int attempt;
+  private final int statusCode;
+
+  /**
+   * Constructor to initialize the Span.
+   *
+   * @param name            The name of the span
+   * @param traceId         The trace id
+   * @param spanId          The span id
+   * @param parentSpanId    The id of the parent span, null for a root span
+   * @param startTimeMillis The start time in milliseconds since the epoch
+   * @param durationNanos   The duration in nanoseconds
+   * @param attempt         The attempt of the request, starting at 1
+   * @param statusCode      The HTTP status code, 0 if the span ended before a
+   *                        response, -1 if the attempt failed
+   */
+  public Span(String name, String traceId, String spanId, String parentSpanId, long startTimeMillis,
+      long durationNanos, int attempt, int statusCode) {
+    this.name = name;
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.startTimeMillis = startTimeMillis;
+    this.durationNanos = durationNanos;
+    this.attempt = attempt;
+    this.statusCode = statusCode;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public String getTraceId() {
+    return this.traceId;
+  }
+
+  public String getSpanId() {
+    return this.spanId;
+  }
+
+  public String getParentSpanId() {
+    return this.parentSpanId;
+  }
+
+  public long getStartTimeMillis() {
+    return this.startTimeMillis;
+  }
+
+  public long getDurationNanos() {
+    return this.durationNanos;
+  }
+
+  public int getAttempt() {
+    return this.attempt;
+  }
+
+  public int getStatusCode() {
+    return this.statusCode;
+  }
+
+  @Override
+  public String toString() {
+    return this.name + " " + this.traceId + "/" + this.spanId + " parent " + this.parentSpanId + " attempt "
+        + this.attempt + " status " + this.statusCode + " " + this.durationNanos / 1000L + " us";
+  }
+}
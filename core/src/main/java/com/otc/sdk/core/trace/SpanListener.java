@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.trace;
+
+/**
+ * Receives the finished spans of traced requests, e.g. to log them or to hand
+ * them to a tracing library. Implementations must be thread-safe. They are
+ * called on the request path, so they should not block.
+ */
+public interface SpanListener {
+
+  /**
+   * Called when a span finished.
+   *
+   * @param span The span
+   */
+  void onSpan(Span span);
+}
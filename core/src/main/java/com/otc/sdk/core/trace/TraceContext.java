@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C trace context of a span, as carried in the traceparent header
+ * "00-&lt;trace id&gt;-&lt;span id&gt;-&lt;flags&gt;".
+ */
+public final class TraceContext {
+  public static final String TRACEPARENT = "traceparent";
+  public static final String TRACESTATE = "tracestate";
+
+  private static final String VERSION = "00";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final String traceId;
+  private final String spanId;
+  private final boolean sampled;
+
+  /**
+   * Constructor to initialize the TraceContext.
+   *
+   * @param traceId The trace id, 32 lower case hex digits
+   * @param spanId  The span id, 16 lower case hex digits
+   * @param sampled Whether the trace is sampled
+   */
+  public TraceContext(String traceId, String spanId, boolean sampled) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.sampled = sampled;
+  }
+
+  public String getTraceId() {
+    return this.traceId;
+  }
+
+  public String getSpanId() {
+    return this.spanId;
+  }
+
+  public boolean isSampled() {
+    return this.sampled;
+  }
+
+  /**
+   * Parses a traceparent header.
+   *
+   * @param traceparent The header value
+   * @return The trace context, null if the value is not a valid traceparent
+   */
+  public static TraceContext parse(String traceparent) {
+    if (traceparent == null) {
+      return null;
+    }
+    String value = traceparent.trim();
+    if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+        || (value.length() > 55 && value.charAt(55) != '-') || value.startsWith("ff")) {
+      return null;
+    }
+    String traceId = value.substring(3, 35);
+    String spanId = value.substring(36, 52);
+    String flags = value.substring(53, 55);
+    if (!isHex(value.substring(0, 2)) || !isHex(traceId) || !isHex(spanId) || !isHex(flags)
+        || isZero(traceId) || isZero(spanId)) {
+      return null;
+    }
+    return new TraceContext(traceId, spanId, (Integer.parseInt(flags, 16) & 1) == 1);
+  }
+
+  /**
+   * Returns the value of the traceparent header of this context.
+   *
+   * @return The header value
+   */
+  public String toTraceparent() {
+    return VERSION + "-" + this.traceId + "-" + this.spanId + (this.sampled ? "-01" : "-00");
+  }
+
+  /**
+   * Creates a random trace id.
+   *
+   * @return The trace id, 32 lower case hex digits
+   */
+  public static String newTraceId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long high = random.nextLong();
+    long low = random.nextLong();
+    while (high == 0L && low == 0L) {
+      low = random.nextLong();
+    }
+    return hex(high) + hex(low);
+  }
+
+  /**
+   * Creates a random span id.
+   *
+   * @return The span id, 16 lower case hex digits
+   */
+  public static String newSpanId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long id = random.nextLong();
+    while (id == 0L) {
+      id = random.nextLong();
+    }
+    return hex(id);
+  }
+
+  @Override
+  public String toString() {
+    return this.toTraceparent();
+  }
+
+  private static String hex(long value) {
+    char[] chars = new char[16];
+    for (int i = 15; i >= 0; --i) {
+      chars[i] = HEX[(int) (value & 0xf)];
+      value >>>= 4;
+    }
+    return new String(chars);
+  }
+
+  private static boolean isHex(String value) {
+    for (int i = 0; i < value.length(); ++i) {
+      char c = value.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isZero(String value) {
+    for (int i = 0; i < value.length(); ++i) {
+      if (value.charAt(i) != '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.trace;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.otc.sdk.service.Request;
+
+/**
+ * Tracer propagates W3C trace context with requests and reports the sign,
+ * send and receive spans of sampled requests to a SpanListener.
+ * Sampling is parent based: a request carrying a valid traceparent header is
+ * traced if its sampled flag is set, other requests are traced with the
+ * sample rate of the tracer. Requests not sampled are sent unchanged and
+ * allocate nothing for tracing.
+ */
+public class Tracer {
+  private final SpanListener listener;
+  private volatile double sampleRate = 1.0;
+
+  /**
+   * Constructor to initialize the Tracer.
+   *
+   * @param listener The listener receiving the finished spans
+   */
+  public Tracer(SpanListener listener) {
+    this.listener = listener;
+  }
+
+  public double getSampleRate() {
+    return this.sampleRate;
+  }
+
+  /**
+   * Set the fraction of requests without a traceparent header that start a
+   * new sampled trace.
+   *
+   * @param sampleRate The sample rate between 0.0 and 1.0 (default 1.0)
+   */
+  public void setSampleRate(double sampleRate) {
+    if (sampleRate < 0.0 || sampleRate > 1.0) {
+      throw new IllegalArgumentException("sampleRate must be between 0.0 and 1.0");
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * Starts tracing a request. The traceparent header of the request is read
+   * here, it is replaced by RequestTrace.inject when the request is sent.
+   *
+   * @param request The request
+   * @return The trace of the request, null if the request is not sampled
+   */
+  public RequestTrace start(Request request) {
+    String traceparent = null;
+    for (Entry<String, String> header : request.getHeaders().entrySet()) {
+      if (TraceContext.TRACEPARENT.equalsIgnoreCase(header.getKey())) {
+        traceparent = header.getValue();
+        break;
+      }
+    }
+    if (traceparent != null) {
+      TraceContext parent = TraceContext.parse(traceparent);
+      if (parent != null) {
+        return parent.isSampled() ? new RequestTrace(this.listener, parent.getTraceId(), parent.getSpanId()) : null;
+      }
+    }
+    double rate = this.sampleRate;
+    if (rate < 1.0 && (rate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= rate)) {
+      return null;
+    }
+    return new RequestTrace(this.listener, TraceContext.newTraceId(), null);
+  }
+}
@@ -28,11 +28,15 @@ public final class Constant {
   public static final String TRUST_MANAGER_FACTORY = "SunX509";
   public static final String GM_PROTOCOL = "GMTLS";
   public static final String INTERNATIONAL_PROTOCOL = "TLSv1.2";
+  // negotiates TLSv1.3 and falls back to TLSv1.2
+  public static final String TLS13_PROTOCOL = "TLSv1.3";
   public static final String SIGNATURE_ALGORITHM_SDK_HMAC_SHA256 = "SDK-HMAC-SHA256";
   public static final String SIGNATURE_ALGORITHM_SDK_HMAC_SM3 = "SDK-HMAC-SM3";
   public static final String[] SUPPORTED_CIPHER_SUITES = { "TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384",
       "TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256", "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256",
       "TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384" };
+  public static final String[] SUPPORTED_TLS13_CIPHER_SUITES = { "TLS_AES_256_GCM_SHA384", "TLS_AES_128_GCM_SHA256",
+      "TLS_CHACHA20_POLY1305_SHA256" };
   public static final String SECURE_RANDOM_ALGORITHM_NATIVE_PRNG_NON_BLOCKING = "NativePRNGNonBlocking";
 
   private Constant() {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+/**
+ * Reseeding strategy of the SP800 CTR DRBG used by the SSLContexts of
+ * SSLCipherSuiteUtil.
+ */
+public enum DrbgMode {
+  /**
+   * Reseeds from the entropy source on every request for random bytes. Every
+   * TLS handshake reads from the operating system.
+   */
+  PREDICTION_RESISTANT,
+
+  /**
+   * Reseeds from the entropy source periodically, see
+   * SSLCipherSuiteUtil.setDrbgReseedIntervalMillis. Random bytes between two
+   * reseeds are generated without reading from the operating system.
+   */
+  RESEEDED
+}
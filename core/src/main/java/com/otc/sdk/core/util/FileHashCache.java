@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of file content hashes, either in memory or persisted in a
+ * memory-mapped index file.
+ * Entries are keyed by path, file key (the inode on Unix), size, modification
+ * time, byte range and algorithm, so a file that was changed or replaced is
+ * hashed again.
+ * The index has a fixed number of entries organized in sets of 8. When a set
+ * is full, its least recently used entry is evicted.
+ * A persistent index can be shared by concurrently running processes. Every
+ * lookup and store holds an exclusive lock on the index file, and every entry
+ * carries a checksum that is verified on read, so an entry torn by a crashed
+ * process is treated as missing.
+ */
+public class FileHashCache implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileHashCache.class);
+
+  /**
+   * System property with the path of the index file used by
+   * {@link #getDefault()}. Without it, or with an empty value, the default
+   * cache is kept in memory.
+   */
+  public static final String INDEX_FILE_PROPERTY = "otc.sdk.hashCache";
+  public static final int DEFAULT_MAX_ENTRIES = 16384;
+
+  private static final int MAGIC = 0x4f484332;
+  private static final int WAYS = 8;
+  private static final int HEADER_SIZE = 64;
+  private static final int KEY_SIZE = 16;
+  private static final int HASH_SIZE = 32;
+  // key, size, modification time, last access, hash, checksum
+  private static final int ENTRY_SIZE = KEY_SIZE + 8 + 8 + 8 + HASH_SIZE + 8;
+  private static final int OFFSET_SIZE = KEY_SIZE;
+  private static final int OFFSET_MTIME = OFFSET_SIZE + 8;
+  private static final int OFFSET_ACCESS = OFFSET_MTIME + 8;
+  private static final int OFFSET_HASH = OFFSET_ACCESS + 8;
+  private static final int OFFSET_CHECKSUM = OFFSET_HASH + HASH_SIZE;
+  private static final int OFFSET_CLOCK = 8;
+
+  private static volatile FileHashCache defaultCache;
+
+  private final ByteBuffer index;
+  private final FileChannel channel;
+  private final int sets;
+
+  /**
+   * Constructor to initialize an in-memory FileHashCache with
+   * {@link #DEFAULT_MAX_ENTRIES} entries.
+   */
+  public FileHashCache() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * Constructor to initialize an in-memory FileHashCache.
+   *
+   * @param maxEntries Maximum number of cached hashes, rounded up to a multiple
+   *                   of 8
+   */
+  public FileHashCache(int maxEntries) {
+    this.sets = sets(maxEntries);
+    this.index = ByteBuffer.allocate(indexSize(this.sets));
+    this.channel = null;
+    this.reset();
+  }
+
+  /**
+   * Constructor to initialize a FileHashCache persisted in an index file. An
+   * existing index with the same number of entries is reused, otherwise the
+   * file is reset. The file stays open for locking until the cache is
+   * closed.
+   *
+   * @param indexFile  The index file, created if it does not exist
+   * @param maxEntries Maximum number of cached hashes, rounded up to a multiple
+   *                   of 8
+   * @throws IOException if the index file can not be mapped
+   */
+  public FileHashCache(Path indexFile, int maxEntries) throws IOException {
+    this.sets = sets(maxEntries);
+    int size = indexSize(this.sets);
+    Path parent = indexFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try (FileLock lock = this.channel.lock()) {
+      boolean valid = this.channel.size() == size;
+      this.index = this.channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+      if (!valid || this.index.getInt(0) != MAGIC || this.index.getInt(4) != this.sets) {
+        this.reset();
+      }
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the cache shared by FileUploader and MultipartUploader. It is kept
+   * in memory, unless the system property otc.sdk.hashCache names an index
+   * file to persist it in, e.g. ~/.otc-sdk/file-hash-cache.idx. If the index
+   * file can not be used, the cache is kept in memory.
+   *
+   * @return The default cache
+   */
+  public static FileHashCache getDefault() {
+    FileHashCache cache = defaultCache;
+    if (cache == null) {
+      synchronized (FileHashCache.class) {
+        cache = defaultCache;
+        if (cache == null) {
+          cache = createDefault();
+          defaultCache = cache;
+        }
+      }
+    }
+    return cache;
+  }
+
+  private static FileHashCache createDefault() {
+    String location = System.getProperty(INDEX_FILE_PROPERTY);
+    if (location == null || location.isEmpty()) {
+      return new FileHashCache();
+    }
+    try {
+      return new FileHashCache(Paths.get(location), DEFAULT_MAX_ENTRIES);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("file hash cache {} not usable, using in-memory cache: {}", location, e.getMessage());
+      return new FileHashCache();
+    }
+  }
+
+  /**
+   * Returns the content hash of a file, computing it on the first call.
+   *
+   * @param file                   The file to hash
+   * @param messageDigestAlgorithm The signing algorithm the hash is used for
+   * @return The hash as a hexadecimal string
+   * @throws IOException if the file can not be read
+   */
+  public String getHashHex(Path file, String messageDigestAlgorithm) throws IOException {
+    return this.getHashHex(file, 0L, -1L, messageDigestAlgorithm);
+  }
+
+  /**
+   * Returns the content hash of a byte range of a file, computing it on the
+   * first call.
+   *
+   * @param file                   The file to hash
+   * @param position               Offset of the first byte
+   * @param length                 Number of bytes to hash, -1 for the whole
+   *                               file
+   * @param messageDigestAlgorithm The signing algorithm the hash is used for
+   * @return The hash as a hexadecimal string
+   * @throws IOException if the file can not be read
+   */
+  public String getHashHex(Path file, long position, long length, String messageDigestAlgorithm)
+      throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    long size = attributes.size();
+    long mtime = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+    byte[] key = key(file.toAbsolutePath().normalize() + "|" + attributes.fileKey() + "|" + position + "|"
+        + length + "|" + messageDigestAlgorithm);
+
+    byte[] hash = this.lookup(key, size, mtime);
+    if (hash != null) {
+      return BinaryUtils.toHex(hash);
+    }
+    String hashHex = length < 0 ? FileHashUtils.hashHex(file, messageDigestAlgorithm)
+        : FileHashUtils.hashHex(file, position, length, messageDigestAlgorithm);
+    this.store(key, size, mtime, hashHex);
+    return hashHex;
+  }
+
+  /**
+   * Removes all cached hashes.
+   */
+  public synchronized void clear() {
+    try (FileLock lock = this.lock()) {
+      if (lock != null || this.channel == null) {
+        this.reset();
+      }
+    } catch (IOException e) {
+      LOGGER.debug("file hash cache not cleared: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Closes the index file of a persistent cache. Afterwards every lookup
+   * misses and nothing is stored.
+   *
+   * @throws IOException if the file can not be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.channel != null) {
+      this.channel.close();
+    }
+  }
+
+  /**
+   * Locks the index file of a persistent cache.
+   *
+   * @return The lock, null for an in-memory cache or if the index can not be
+   *         locked, e.g. after close
+   */
+  private FileLock lock() {
+    if (this.channel == null) {
+      return null;
+    }
+    try {
+      return this.channel.lock();
+    } catch (IOException | OverlappingFileLockException e) {
+      LOGGER.debug("file hash cache not locked: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < this.index.capacity(); ++i) {
+      this.index.put(i, (byte) 0);
+    }
+    this.index.putInt(0, MAGIC);
+    this.index.putInt(4, this.sets);
+  }
+
+  private synchronized byte[] lookup(byte[] key, long size, long mtime) throws IOException {
+    try (FileLock lock = this.lock()) {
+      if (lock == null && this.channel != null) {
+        return null;
+      }
+      int entry = this.find(key);
+      if (entry < 0 || this.index.getLong(entry + OFFSET_SIZE) != size
+          || this.index.getLong(entry + OFFSET_MTIME) != mtime
+          || this.index.getLong(entry + OFFSET_CHECKSUM) != this.checksum(entry)) {
+        return null;
+      }
+      this.index.putLong(entry + OFFSET_ACCESS, this.tick());
+      byte[] hash = new byte[HASH_SIZE];
+      for (int i = 0; i < HASH_SIZE; ++i) {
+        hash[i] = this.index.get(entry + OFFSET_HASH + i);
+      }
+      return hash;
+    }
+  }
+
+  private synchronized void store(byte[] key, long size, long mtime, String hashHex) throws IOException {
+    if (hashHex.length() != HASH_SIZE * 2) {
+      return;
+    }
+    try (FileLock lock = this.lock()) {
+      if (lock != null || this.channel == null) {
+        this.put(key, size, mtime, hashHex);
+      }
+    }
+  }
+
+  private void put(byte[] key, long size, long mtime, String hashHex) {
+    int entry = this.find(key);
+    if (entry < 0) {
+      entry = this.victim(key);
+      for (int i = 0; i < KEY_SIZE; ++i) {
+        this.index.put(entry + i, key[i]);
+      }
+    }
+    this.index.putLong(entry + OFFSET_SIZE, size);
+    this.index.putLong(entry + OFFSET_MTIME, mtime);
+    this.index.putLong(entry + OFFSET_ACCESS, this.tick());
+    for (int i = 0; i < HASH_SIZE; ++i) {
+      this.index.put(entry + OFFSET_HASH + i, (byte) Integer.parseInt(hashHex.substring(i * 2, i * 2 + 2), 16));
+    }
+    // written last, so a torn entry fails the check on read
+    this.index.putLong(entry + OFFSET_CHECKSUM, this.checksum(entry));
+  }
+
+  /**
+   * Computes the checksum of an entry over its key, size, modification time
+   * and hash. The access time is left out, it changes on every lookup.
+   */
+  private long checksum(int entry) {
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < OFFSET_ACCESS; ++i) {
+      crc.update(this.index.get(entry + i));
+    }
+    for (int i = OFFSET_HASH; i < OFFSET_CHECKSUM; ++i) {
+      crc.update(this.index.get(entry + i));
+    }
+    // never 0, the value of an empty entry
+    return crc.getValue() | 1L << 32;
+  }
+
+  private int find(byte[] key) {
+    int first = this.firstEntry(key);
+    for (int way = 0; way < WAYS; ++way) {
+      int entry = first + way * ENTRY_SIZE;
+      if (this.index.getLong(entry + OFFSET_ACCESS) != 0L && this.keyEquals(entry, key)) {
+        return entry;
+      }
+    }
+    return -1;
+  }
+
+  private int victim(byte[] key) {
+    int first = this.firstEntry(key);
+    int victim = first;
+    long oldest = Long.MAX_VALUE;
+    for (int way = 0; way < WAYS; ++way) {
+      int entry = first + way * ENTRY_SIZE;
+      long access = this.index.getLong(entry + OFFSET_ACCESS);
+      if (access < oldest) {
+        oldest = access;
+        victim = entry;
+      }
+    }
+    return victim;
+  }
+
+  private boolean keyEquals(int entry, byte[] key) {
+    for (int i = 0; i < KEY_SIZE; ++i) {
+      if (this.index.get(entry + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int firstEntry(byte[] key) {
+    int set = (int) Long.remainderUnsigned(ByteBuffer.wrap(key).getLong(), this.sets);
+    return HEADER_SIZE + set * WAYS * ENTRY_SIZE;
+  }
+
+  private long tick() {
+    long clock = this.index.getLong(OFFSET_CLOCK) + 1L;
+    this.index.putLong(OFFSET_CLOCK, clock);
+    return clock;
+  }
+
+  private static byte[] key(String key) {
+    try {
+      return Arrays.copyOf(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)),
+          KEY_SIZE);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static int sets(int maxEntries) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    return (maxEntries + WAYS - 1) / WAYS;
+  }
+
+  private static int indexSize(int sets) {
+    return HEADER_SIZE + sets * WAYS * ENTRY_SIZE;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.bouncycastle.crypto.digests.SM3Digest;
+
+/**
+ * FileHashUtils class provides methods to compute the content hash of a file
+ * as used in the x-sdk-content-sha256 header.
+ * The file is read through memory-mapped windows, so its content is not
+ * copied to the Java heap for SHA-256.
+ */
+public class FileHashUtils {
+  private static final long MAP_WINDOW = 64L * 1024 * 1024;
+  private static final int SM3_CHUNK = 64 * 1024;
+
+  /**
+   * Computes the content hash of a file for a signing algorithm.
+   *
+   * @param file                   The file to hash
+   * @param messageDigestAlgorithm "SDK-HMAC-SHA256" for SHA-256, "SDK-HMAC-SM3"
+   *                               for SM3
+   * @return The hash as a hexadecimal string
+   * @throws IOException if the file can not be read
+   */
+  public static String hashHex(Path file, String messageDigestAlgorithm) throws IOException {
+    return hashHex(file, 0L, -1L, messageDigestAlgorithm);
+  }
+
+  /**
+   * Computes the content hash of a part of a file for a signing algorithm.
+   *
+   * @param file                   The file to hash
+   * @param position               Offset of the first byte to hash
+   * @param length                 Number of bytes to hash, -1 for the rest of
+   *                               the file
+   * @param messageDigestAlgorithm "SDK-HMAC-SHA256" for SHA-256, "SDK-HMAC-SM3"
+   *                               for SM3
+   * @return The hash as a hexadecimal string
+   * @throws IOException if the file can not be read
+   */
+  public static String hashHex(Path file, long position, long length, String messageDigestAlgorithm)
+      throws IOException {
+    boolean sm3 = Constant.SIGNATURE_ALGORITHM_SDK_HMAC_SM3.equals(messageDigestAlgorithm);
+    MessageDigest sha256 = null;
+    SM3Digest sm3Digest = null;
+    if (sm3) {
+      sm3Digest = new SM3Digest();
+    } else {
+      try {
+        sha256 = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 not available", e);
+      }
+    }
+
+    byte[] chunk = sm3 ? new byte[SM3_CHUNK] : null;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long end = length < 0 ? channel.size() : Math.min(channel.size(), position + length);
+      for (long offset = position; offset < end; offset += MAP_WINDOW) {
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAP_WINDOW,
+            end - offset));
+        if (sm3) {
+          while (window.hasRemaining()) {
+            int count = Math.min(chunk.length, window.remaining());
+            window.get(chunk, 0, count);
+            sm3Digest.update(chunk, 0, count);
+          }
+        } else {
+          sha256.update(window);
+        }
+      }
+    }
+
+    if (sm3) {
+      byte[] hash = new byte[sm3Digest.getDigestSize()];
+      sm3Digest.doFinal(hash, 0);
+      return BinaryUtils.toHex(hash);
+    }
+    return BinaryUtils.toHex(sha256.digest());
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import com.otc.sdk.core.http.HttpMethodName;
+
+/**
+ * GzipUtils class provides methods for compressing request bodies with
+ * Content-Encoding gzip.
+ * Bodies are compressed before signing, so the content hash covers the
+ * compressed bytes that are sent.
+ */
+public class GzipUtils {
+  public static final String CONTENT_ENCODING = "Content-Encoding";
+  public static final String GZIP = "gzip";
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Checks if a request body should be compressed.
+   *
+   * @param httpMethod HTTP method of the request, only POST, PUT and PATCH
+   *                   bodies are compressed
+   * @param content    The request body
+   * @param threshold  Minimum body length in characters, negative to disable
+   *                   compression
+   * @return true if the body should be compressed
+   */
+  public static boolean shouldCompress(HttpMethodName httpMethod, String content, int threshold) {
+    return threshold >= 0 && content != null && content.length() >= threshold
+        && (httpMethod == HttpMethodName.POST || httpMethod == HttpMethodName.PUT
+            || httpMethod == HttpMethodName.PATCH);
+  }
+
+  /**
+   * Compresses a body. The characters are encoded as UTF-8 and streamed into
+   * the compressor, the uncompressed bytes are never held in memory as a
+   * whole. The compressed bytes are buffered, as the signature covers their
+   * hash and is sent before the body.
+   *
+   * @param content The body to compress
+   * @return The gzip compressed UTF-8 bytes of the body
+   */
+  public static byte[] gzip(String content) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(64, content.length() / 4));
+    try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(result, BUFFER_SIZE), StandardCharsets.UTF_8)) {
+      for (int start = 0; start < content.length(); start += BUFFER_SIZE) {
+        writer.write(content, start, Math.min(BUFFER_SIZE, content.length() - start));
+      }
+    } catch (IOException e) {
+      // a ByteArrayOutputStream does not throw
+      throw new IllegalStateException(e);
+    }
+    return result.toByteArray();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * SSLSocketFactory recording the handshakes of its sockets in
+ * TlsHandshakeMetrics. It optionally enables a list of cipher suites on its
+ * sockets, in order of preference.
+ */
+final class HandshakeCountingSocketFactory extends SSLSocketFactory {
+  private final SSLSocketFactory delegate;
+  private final String[] cipherSuites;
+
+  /**
+   * Constructor to initialize the HandshakeCountingSocketFactory keeping the
+   * cipher suites of the delegate.
+   *
+   * @param delegate The factory creating the sockets
+   */
+  HandshakeCountingSocketFactory(SSLSocketFactory delegate) {
+    this(delegate, null);
+  }
+
+  /**
+   * Constructor to initialize the HandshakeCountingSocketFactory.
+   *
+   * @param delegate     The factory creating the sockets
+   * @param cipherSuites The cipher suites enabled on the sockets in order of
+   *                     preference, null to keep the ones of the delegate
+   */
+  HandshakeCountingSocketFactory(SSLSocketFactory delegate, String[] cipherSuites) {
+    this.delegate = delegate;
+    this.cipherSuites = cipherSuites == null ? null : cipherSuites.clone();
+  }
+
+  @Override
+  public String[] getDefaultCipherSuites() {
+    return this.cipherSuites != null ? this.cipherSuites.clone() : this.delegate.getDefaultCipherSuites();
+  }
+
+  @Override
+  public String[] getSupportedCipherSuites() {
+    return this.delegate.getSupportedCipherSuites();
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    return this.track(this.delegate.createSocket());
+  }
+
+  @Override
+  public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+    return this.track(this.delegate.createSocket(socket, host, port, autoClose));
+  }
+
+  @Override
+  public Socket createSocket(Socket socket, InputStream consumed, boolean autoClose) throws IOException {
+    return this.track(this.delegate.createSocket(socket, consumed, autoClose));
+  }
+
+  @Override
+  public Socket createSocket(String host, int port) throws IOException {
+    return this.track(this.delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+    return this.track(this.delegate.createSocket(host, port, localHost, localPort));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress host, int port) throws IOException {
+    return this.track(this.delegate.createSocket(host, port));
+  }
+
+  @Override
+  public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+      throws IOException {
+    return this.track(this.delegate.createSocket(address, port, localAddress, localPort));
+  }
+
+  private Socket track(Socket socket) {
+    if (socket instanceof SSLSocket) {
+      long connected = System.currentTimeMillis();
+      if (this.cipherSuites != null) {
+        ((SSLSocket) socket).setEnabledCipherSuites(this.cipherSuites);
+      }
+      ((SSLSocket) socket).addHandshakeCompletedListener(
+          event -> TlsHandshakeMetrics.record(event.getSession().getCreationTime() < connected));
+    }
+    return socket;
+  }
+}
@@ -19,13 +19,20 @@ package com.otc.sdk.core.util;
  * HostName utility class to manage and validate host names.
  * It provides methods to set a URL host name and check if a given SSL host name
  * matches the set URL host name.
+ * The host name is global and only used by clients created without a trusted
+ * host name, pass the host name to
+ * SSLCipherSuiteUtil.createOkHttpClientWithVerify(String, String) or
+ * SSLCipherSuiteUtil.createHttpClientWithVerify(String, String) instead.
  */
 public class HostName {
-  private static String urlHostName;
+  private static volatile String urlHostName;
 
   /**
    * Sets the URL host name.
+   *
+   * @deprecated Pass the host name to the client instead, see above
    */
+  @Deprecated
   public static void setUrlHostName(String hostName) {
     urlHostName = hostName;
   }
@@ -37,6 +44,7 @@ public class HostName {
    * @return true if the SSL host name matches the URL host name, false otherwise
    */
   public static boolean checkHostName(String SSLHostName) {
-    return urlHostName.equals(SSLHostName);
+    String hostName = urlHostName;
+    return hostName != null && hostName.equals(SSLHostName);
   }
 }
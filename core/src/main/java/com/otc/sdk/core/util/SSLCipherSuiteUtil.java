@@ -15,20 +15,23 @@
 
 package com.otc.sdk.core.util;
 
+import okhttp3.ConnectionSpec;
 import okhttp3.OkHttpClient;
 
 import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.prng.SP800SecureRandom;
 import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
 import org.openeuler.BGMProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
 import java.net.URL;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
@@ -38,7 +41,11 @@ import java.security.NoSuchProviderException;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.*;
 
@@ -47,13 +54,146 @@ import javax.net.ssl.*;
  */
 public class SSLCipherSuiteUtil {
   private static final Logger LOGGER = LoggerFactory.getLogger(SSLCipherSuiteUtil.class);
-  private static CloseableHttpClient httpClient;
-  private static OkHttpClient okHttpClient;
-
   private static final int CIPHER_LEN = 256;
 
   private static final int ENTROPY_BITS_REQUIRED = 384;
 
+  /**
+   * SSLContexts by protocol and verify mode. An SSLContext is thread-safe and
+   * not modified after initialization, so all clients share one context, its
+   * DRBG and its client session cache.
+   */
+  private static final ConcurrentMap<String, SSLContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+  /**
+   * Socket factories of the shared SSLContexts, counting handshakes in
+   * TlsHandshakeMetrics.
+   */
+  private static final ConcurrentMap<SSLContext, SSLSocketFactory> SOCKET_FACTORIES = new ConcurrentHashMap<>();
+
+  private static final TrustAllManager TRUST_ALL_MANAGER = new TrustAllManager();
+
+  private static final HostnameVerifier TRUST_ALL_HOSTNAME_VERIFIER = new TrustAllHostnameVerifier();
+
+  /**
+   * Hostname verifiers by trusted host name. Verifiers are immutable and shared
+   * by all clients and connections to a host.
+   */
+  private static final ConcurrentMap<String, HostnameVerifier> HOSTNAME_VERIFIERS = new ConcurrentHashMap<>();
+
+  private static volatile X509TrustManager defaultTrustManager;
+
+  private static volatile boolean bgmProviderInstalled;
+
+  private static volatile DrbgMode drbgMode = DrbgMode.PREDICTION_RESISTANT;
+
+  private static volatile long drbgReseedIntervalMillis = 60000L;
+
+  private static volatile int clientSessionCacheSize = 8192;
+
+  private static volatile int clientSessionTimeout = 3600;
+
+  public static DrbgMode getDrbgMode() {
+    return drbgMode;
+  }
+
+  /**
+   * Set the reseeding strategy of the DRBG used for TLS. Each SSLContext uses
+   * one DRBG instance per group of threads. Clients created afterwards use the
+   * new mode, existing clients keep their SSLContext.
+   *
+   * @param mode The DRBG mode (default PREDICTION_RESISTANT)
+   */
+  public static void setDrbgMode(DrbgMode mode) {
+    synchronized (SSL_CONTEXTS) {
+      drbgMode = mode;
+      clearSslContexts();
+    }
+  }
+
+  public static long getDrbgReseedIntervalMillis() {
+    return drbgReseedIntervalMillis;
+  }
+
+  /**
+   * Set the time between reseeds of a DRBG in DrbgMode.RESEEDED. Clients
+   * created afterwards use the new interval.
+   *
+   * @param reseedIntervalMillis Time between reseeds in milliseconds (default
+   *                             60000)
+   */
+  public static void setDrbgReseedIntervalMillis(long reseedIntervalMillis) {
+    synchronized (SSL_CONTEXTS) {
+      drbgReseedIntervalMillis = reseedIntervalMillis;
+      if (drbgMode == DrbgMode.RESEEDED) {
+        clearSslContexts();
+      }
+    }
+  }
+
+  private static void clearSslContexts() {
+    SSL_CONTEXTS.clear();
+    SOCKET_FACTORIES.clear();
+  }
+
+  public static int getClientSessionCacheSize() {
+    return clientSessionCacheSize;
+  }
+
+  /**
+   * Set the number of TLS sessions cached for resumption, shared by all
+   * clients of a protocol and verify mode. Applies to existing clients as
+   * well.
+   *
+   * @param size Maximum number of cached sessions, 0 for no limit (default
+   *             8192)
+   */
+  public static void setClientSessionCacheSize(int size) {
+    clientSessionCacheSize = size;
+    for (SSLContext sslContext : SSL_CONTEXTS.values()) {
+      sslContext.getClientSessionContext().setSessionCacheSize(size);
+    }
+  }
+
+  public static int getClientSessionTimeout() {
+    return clientSessionTimeout;
+  }
+
+  /**
+   * Set how long cached TLS sessions are resumed. Applies to existing clients
+   * as well.
+   *
+   * @param seconds Session lifetime in seconds, 0 for no limit (default 3600)
+   */
+  public static void setClientSessionTimeout(int seconds) {
+    clientSessionTimeout = seconds;
+    for (SSLContext sslContext : SSL_CONTEXTS.values()) {
+      sslContext.getClientSessionContext().setSessionTimeout(seconds);
+    }
+  }
+
+  /**
+   * Creates the shared SSLContext of a protocol and produces a ClientHello
+   * with it, so the DRBG is seeded and the handshake classes are loaded before
+   * the first connection. Clients created afterwards reuse the context.
+   *
+   * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param verify   Whether the context of clients with SSL verification is
+   *                 prepared, otherwise the one of trust-all clients
+   * @throws Exception If an error occurs while creating the SSL context
+   */
+  public static void warmUp(String protocol, boolean verify) throws Exception {
+    SSLContext sslContext = verify ? getSslContextWithVerify(protocol) : getSslContext(protocol);
+    getSocketFactory(sslContext);
+    SSLEngine engine = sslContext.createSSLEngine();
+    engine.setUseClientMode(true);
+    engine.setEnabledProtocols(enabledProtocols(protocol));
+    engine.setEnabledCipherSuites(enabledCipherSuites(protocol));
+    engine.beginHandshake();
+    engine.wrap(ByteBuffer.allocate(0), ByteBuffer.allocate(engine.getSession().getPacketBufferSize()));
+    engine.closeOutbound();
+  }
+
   /**
    * Creates an HTTP client with the specified SSL protocol.
    *
@@ -62,31 +202,88 @@ public class SSLCipherSuiteUtil {
    * @throws Exception If an error occurs while creating the SSL context
    */
   public static HttpClient createHttpClient(String protocol) throws Exception {
+    return createHttpClient(protocol, null);
+  }
+
+  /**
+   * Creates an HTTP client with the specified SSL protocol and cipher suites.
+   *
+   * @param protocol     The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param cipherSuites The cipher suites offered by the client in order of
+   *                     preference, null for the defaults of the SDK
+   * @return An instance of HttpClient configured with the specified protocol
+   * @throws Exception If an error occurs while creating the SSL context or a
+   *                   cipher suite is not supported
+   */
+  public static HttpClient createHttpClient(String protocol, String[] cipherSuites) throws Exception {
     SSLContext sslContext = getSslContext(protocol);
     // create factory
-    SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext,
-        new String[] { protocol }, Constant.SUPPORTED_CIPHER_SUITES, new TrustAllHostnameVerifier());
+    SSLConnectionSocketFactory sslConnectionSocketFactory = new TimingSSLConnectionSocketFactory(
+        getSocketFactory(sslContext), enabledProtocols(protocol),
+        clientCipherSuites(sslContext, protocol, cipherSuites),
+        TRUST_ALL_HOSTNAME_VERIFIER);
 
-    httpClient = HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build();
-    return httpClient;
+    return HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory)
+        .setRequestExecutor(new TimingHttpRequestExecutor()).build();
   }
 
   /**
    * Creates an HTTP client with SSL verification enabled for the specified
-   * protocol.
+   * protocol. The host name set with HostName.setUrlHostName is trusted.
    *
    * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
    * @return An instance of HttpClient configured with SSL verification
    * @throws Exception If an error occurs while creating the SSL context
+   * @deprecated Use {@link #createHttpClientWithVerify(String, String)}, which
+   *             does not depend on the global HostName
    */
+  @Deprecated
   public static HttpClient createHttpClientWithVerify(String protocol) throws Exception {
+    return createHttpClientWithVerify(protocol, null);
+  }
+
+  /**
+   * Creates an HTTP client with SSL verification enabled for the specified
+   * protocol. Certificates are verified with the default trust store. The host
+   * name of a certificate is verified, unless the client connects to the
+   * trusted host name.
+   *
+   * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param hostName The trusted host name of the client, null to use the host
+   *                 name set with HostName.setUrlHostName
+   * @return An instance of HttpClient configured with SSL verification
+   * @throws Exception If an error occurs while creating the SSL context
+   */
+  public static HttpClient createHttpClientWithVerify(String protocol, String hostName) throws Exception {
+    return createHttpClientWithVerify(protocol, hostName, null);
+  }
+
+  /**
+   * Creates an HTTP client with SSL verification enabled for the specified
+   * protocol and cipher suites. Certificates are verified with the default
+   * trust store. The host name of a certificate is verified, unless the client
+   * connects to the trusted host name.
+   *
+   * @param protocol     The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param hostName     The trusted host name of the client, null to use the
+   *                     host name set with HostName.setUrlHostName
+   * @param cipherSuites The cipher suites offered by the client in order of
+   *                     preference, null for the defaults of the SDK
+   * @return An instance of HttpClient configured with SSL verification
+   * @throws Exception If an error occurs while creating the SSL context or a
+   *                   cipher suite is not supported
+   */
+  public static HttpClient createHttpClientWithVerify(String protocol, String hostName, String[] cipherSuites)
+      throws Exception {
     SSLContext sslContext = getSslContextWithVerify(protocol);
     // create factory
-    SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(sslContext,
-        new String[] { protocol }, Constant.SUPPORTED_CIPHER_SUITES, new TheRealHostnameVerifier());
+    SSLConnectionSocketFactory sslConnectionSocketFactory = new TimingSSLConnectionSocketFactory(
+        getSocketFactory(sslContext), enabledProtocols(protocol),
+        clientCipherSuites(sslContext, protocol, cipherSuites),
+        getHostnameVerifier(hostName));
 
-    httpClient = HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build();
-    return httpClient;
+    return HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory)
+        .setRequestExecutor(new TimingHttpRequestExecutor()).build();
   }
 
   /**
@@ -97,40 +294,94 @@ public class SSLCipherSuiteUtil {
    * @throws Exception If an error occurs while creating the SSL context
    */
   public static OkHttpClient createOkHttpClient(String protocol) throws Exception {
+    return createOkHttpClient(protocol, null);
+  }
+
+  /**
+   * Creates an OkHttpClient with the specified SSL protocol and cipher suites.
+   *
+   * @param protocol     The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param cipherSuites The cipher suites offered by the client in order of
+   *                     preference, null for the defaults of the SDK
+   * @return An instance of OkHttpClient configured with the specified protocol
+   * @throws Exception If an error occurs while creating the SSL context or a
+   *                   cipher suite is not supported
+   */
+  public static OkHttpClient createOkHttpClient(String protocol, String[] cipherSuites) throws Exception {
     SSLContext sslContext = getSslContext(protocol);
+    String[] preferred = cipherSuites == null ? null : clientCipherSuites(sslContext, protocol, cipherSuites);
     // Create an ssl socket factory with our all-trusting manager
-    SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
+    SSLSocketFactory sslSocketFactory = getSocketFactory(sslContext, preferred);
     OkHttpClient.Builder builder = new OkHttpClient.Builder()
-        .sslSocketFactory(sslSocketFactory, new TrustAllManager())
-        .hostnameVerifier(new TrustAllHostnameVerifier());
-    okHttpClient = builder.connectTimeout(10, TimeUnit.SECONDS).readTimeout(60, TimeUnit.SECONDS).build();
-    return okHttpClient;
+        .sslSocketFactory(sslSocketFactory, TRUST_ALL_MANAGER)
+        .hostnameVerifier(TRUST_ALL_HOSTNAME_VERIFIER);
+    configureConnectionSpecs(builder, protocol, preferred);
+    return builder.connectTimeout(10, TimeUnit.SECONDS).readTimeout(60, TimeUnit.SECONDS).build();
   }
 
   /**
    * Creates an OkHttpClient with SSL verification enabled for the specified
-   * protocol.
+   * protocol. The host name set with HostName.setUrlHostName is trusted.
    *
    * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
    * @return An instance of OkHttpClient configured with SSL verification
    * @throws Exception If an error occurs while creating the SSL context
+   * @deprecated Use {@link #createOkHttpClientWithVerify(String, String)},
+   *             which does not depend on the global HostName
    */
+  @Deprecated
   public static OkHttpClient createOkHttpClientWithVerify(String protocol) throws Exception {
+    return createOkHttpClientWithVerify(protocol, null);
+  }
+
+  /**
+   * Creates an OkHttpClient with SSL verification enabled for the specified
+   * protocol. Certificates are verified with the default trust store. The host
+   * name of a certificate is verified, unless the client connects to the
+   * trusted host name.
+   *
+   * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param hostName The trusted host name of the client, null to use the host
+   *                 name set with HostName.setUrlHostName
+   * @return An instance of OkHttpClient configured with SSL verification
+   * @throws Exception If an error occurs while creating the SSL context
+   */
+  public static OkHttpClient createOkHttpClientWithVerify(String protocol, String hostName) throws Exception {
+    return createOkHttpClientWithVerify(protocol, hostName, null);
+  }
+
+  /**
+   * Creates an OkHttpClient with SSL verification enabled for the specified
+   * protocol and cipher suites. Certificates are verified with the default
+   * trust store. The host name of a certificate is verified, unless the client
+   * connects to the trusted host name.
+   *
+   * @param protocol     The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param hostName     The trusted host name of the client, null to use the
+   *                     host name set with HostName.setUrlHostName
+   * @param cipherSuites The cipher suites offered by the client in order of
+   *                     preference, null for the defaults of the SDK
+   * @return An instance of OkHttpClient configured with SSL verification
+   * @throws Exception If an error occurs while creating the SSL context or a
+   *                   cipher suite is not supported
+   */
+  public static OkHttpClient createOkHttpClientWithVerify(String protocol, String hostName, String[] cipherSuites)
+      throws Exception {
     SSLContext sslContext = getSslContextWithVerify(protocol);
-    SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
+    String[] preferred = cipherSuites == null ? null : clientCipherSuites(sslContext, protocol, cipherSuites);
+    SSLSocketFactory sslSocketFactory = getSocketFactory(sslContext, preferred);
 
-    TrustManagerFactory tmf = TrustManagerFactory.getInstance(Constant.TRUST_MANAGER_FACTORY);
-    tmf.init((KeyStore) null);
-    TrustManager[] verify = tmf.getTrustManagers();
     OkHttpClient.Builder builder = new OkHttpClient.Builder().sslSocketFactory(sslSocketFactory,
-        (X509TrustManager) verify[0]).hostnameVerifier(new TheRealHostnameVerifier());
+        getDefaultTrustManager()).hostnameVerifier(getHostnameVerifier(hostName));
+    configureConnectionSpecs(builder, protocol, preferred);
 
-    okHttpClient = builder.connectTimeout(10, TimeUnit.SECONDS).readTimeout(60, TimeUnit.SECONDS).build();
-    return okHttpClient;
+    return builder.connectTimeout(10, TimeUnit.SECONDS).readTimeout(60, TimeUnit.SECONDS).build();
   }
 
   /**
-   * Creates an HttpURLConnection for the specified URL and protocol.
+   * Creates an HttpURLConnection for the specified URL and protocol. The SSL
+   * socket factory and hostname verifier are set on the connection, the JVM
+   * wide defaults of HttpsURLConnection are not changed.
    *
    * @param uUrl     The URL to connect to
    * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
@@ -141,16 +392,20 @@ public class SSLCipherSuiteUtil {
     // initial connection
     if (uUrl.getProtocol().toUpperCase(Locale.getDefault()).equals(Constant.HTTPS)) {
       SSLContext sslContext = getSslContext(protocol);
-      HttpsURLConnection.setDefaultHostnameVerifier(new TrustAllHostnameVerifier());
-      HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-      return (HttpsURLConnection) uUrl.openConnection();
+      HttpsURLConnection connection = (HttpsURLConnection) uUrl.openConnection();
+      connection.setHostnameVerifier(TRUST_ALL_HOSTNAME_VERIFIER);
+      connection.setSSLSocketFactory(getSocketFactory(sslContext));
+      return connection;
     }
     return (HttpURLConnection) uUrl.openConnection();
   }
 
   /**
    * Creates an HttpURLConnection for the specified URL and protocol with SSL
-   * verification.
+   * verification. The host name set with HostName.setUrlHostName is trusted,
+   * the host name of other servers is verified against their certificate.
+   * The SSL socket factory and hostname verifier are set on the connection,
+   * the JVM wide defaults of HttpsURLConnection are not changed.
    *
    * @param uUrl     The URL to connect to
    * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
@@ -159,55 +414,74 @@ public class SSLCipherSuiteUtil {
    * @throws Exception If an error occurs while creating the connection
    */
   public static HttpURLConnection createHttpsOrHttpURLConnectionWithVerify(URL uUrl, String protocol) throws Exception {
+    return createHttpsOrHttpURLConnectionWithVerify(uUrl, protocol, null);
+  }
+
+  /**
+   * Creates an HttpURLConnection for the specified URL and protocol with SSL
+   * verification. Certificates are verified with the default trust store. The
+   * host name of the certificate is verified, unless the URL has the trusted
+   * host name. The SSL socket factory and hostname verifier are set on the
+   * connection, the JVM wide defaults of HttpsURLConnection are not changed.
+   *
+   * @param uUrl     The URL to connect to
+   * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @param hostName The trusted host name, null to use the host name set with
+   *                 HostName.setUrlHostName
+   * @return An HttpURLConnection object for the specified URL and protocol with
+   *         SSL verification
+   * @throws Exception If an error occurs while creating the connection
+   */
+  public static HttpURLConnection createHttpsOrHttpURLConnectionWithVerify(URL uUrl, String protocol,
+      String hostName) throws Exception {
     // initial connection
     if (uUrl.getProtocol().toUpperCase(Locale.getDefault()).equals(Constant.HTTPS)) {
       SSLContext sslContext = getSslContextWithVerify(protocol);
-      HttpsURLConnection.setDefaultHostnameVerifier(new TheRealHostnameVerifier());
-      HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-      return (HttpsURLConnection) uUrl.openConnection();
+      HttpsURLConnection connection = (HttpsURLConnection) uUrl.openConnection();
+      connection.setHostnameVerifier(getHostnameVerifier(hostName));
+      connection.setSSLSocketFactory(getSocketFactory(sslContext));
+      return connection;
     }
     return (HttpURLConnection) uUrl.openConnection();
   }
 
   /**
-   * Access a resource with the specified URL, headers, and HTTP method.
+   * Returns the shared SSLContext trusting all certificates for a protocol,
+   * creating it on first use.
    *
-   * @param url        URL of the resource
-   * @param header     Map of headers to include in the request
-   * @param httpMethod HTTP method to use (GET, POST, etc.)
-   * @return HttpRequestBase object representing the HTTP request
-   * @throws Exception if an error occurs during access
+   * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
+   * @return The SSLContext
+   * @throws UnsupportProtocolException If the protocol is not supported
+   * @throws NoSuchAlgorithmException   If the specified algorithm is not
+   *                                    available
+   * @throws NoSuchProviderException    If the specified provider is not available
+   * @throws KeyManagementException     If there is an error initializing the key
+   *                                    management
    */
   private static SSLContext getSslContext(String protocol) throws UnsupportProtocolException,
       NoSuchAlgorithmException, NoSuchProviderException, KeyManagementException {
-    if (!Constant.GM_PROTOCOL.equals(protocol) && !Constant.INTERNATIONAL_PROTOCOL.equals(protocol)) {
-      LOGGER.info("Unsupport protocol: {}, Only support GMTLS TLSv1.2", protocol);
-      throw new UnsupportProtocolException("Unsupport protocol, Only support GMTLS TLSv1.2");
-    }
-    // Create a trust manager that does not validate certificate chains
-    TrustAllManager[] trust = { new TrustAllManager() };
-    KeyManager[] kms = null;
-    SSLContext sslContext;
-
-    sslContext = SSLContext.getInstance(Constant.INTERNATIONAL_PROTOCOL, "SunJSSE");
-
-    if (Constant.GM_PROTOCOL.equals(protocol)) {
-      Security.insertProviderAt(new BGMProvider(), 1);
-      sslContext = SSLContext.getInstance(Constant.GM_PROTOCOL, "BGMProvider");
+    checkProtocol(protocol);
+    String key = protocol + "|trustAll";
+    SSLContext sslContext = SSL_CONTEXTS.get(key);
+    if (sslContext == null) {
+      synchronized (SSL_CONTEXTS) {
+        sslContext = SSL_CONTEXTS.get(key);
+        if (sslContext == null) {
+          // Create a trust manager that does not validate certificate chains
+          sslContext = newSslContext(protocol, new TrustManager[] { TRUST_ALL_MANAGER });
+          SSL_CONTEXTS.put(key, sslContext);
+        }
+      }
     }
-    SecureRandom secureRandom = getSecureRandom();
-    sslContext.init(kms, trust, secureRandom);
-    sslContext.getServerSessionContext().setSessionCacheSize(8192);
-    sslContext.getServerSessionContext().setSessionTimeout(3600);
     return sslContext;
   }
 
   /**
-   * Creates an SSL context with verification for the specified protocol.
+   * Returns the shared SSLContext verifying certificates with the default
+   * trust store for a protocol, creating it on first use.
    *
    * @param protocol The SSL protocol to use (e.g., "GMTLS", "TLSv1.2")
-   * @return An instance of SSLContext configured with the specified protocol and
-   *         verification
+   * @return The SSLContext
    * @throws UnsupportProtocolException If the protocol is not supported
    * @throws NoSuchAlgorithmException   If the specified algorithm is not
    *                                    available
@@ -220,29 +494,194 @@ public class SSLCipherSuiteUtil {
   private static SSLContext getSslContextWithVerify(String protocol)
       throws UnsupportProtocolException, NoSuchAlgorithmException, NoSuchProviderException, KeyManagementException,
       KeyStoreException {
-    if (!Constant.GM_PROTOCOL.equals(protocol) && !Constant.INTERNATIONAL_PROTOCOL.equals(protocol)) {
-      LOGGER.info("Unsupport protocol: {}, Only support GMTLS TLSv1.2", protocol);
-      throw new UnsupportProtocolException("Unsupport protocol, Only support GMTLS TLSv1.2");
+    checkProtocol(protocol);
+    String key = protocol + "|verify";
+    SSLContext sslContext = SSL_CONTEXTS.get(key);
+    if (sslContext == null) {
+      synchronized (SSL_CONTEXTS) {
+        sslContext = SSL_CONTEXTS.get(key);
+        if (sslContext == null) {
+          sslContext = newSslContext(protocol, new TrustManager[] { getDefaultTrustManager() });
+          SSL_CONTEXTS.put(key, sslContext);
+        }
+      }
     }
-    KeyManager[] kms = null;
-    SSLContext sslContext = SSLContext.getInstance(Constant.INTERNATIONAL_PROTOCOL, "SunJSSE");
-    SecureRandom secureRandom = getSecureRandom();
+    return sslContext;
+  }
 
+  private static void checkProtocol(String protocol) throws UnsupportProtocolException {
+    if (!Constant.GM_PROTOCOL.equals(protocol) && !Constant.INTERNATIONAL_PROTOCOL.equals(protocol)
+        && !Constant.TLS13_PROTOCOL.equals(protocol)) {
+      LOGGER.info("Unsupport protocol: {}, Only support GMTLS TLSv1.2 TLSv1.3", protocol);
+      throw new UnsupportProtocolException("Unsupport protocol, Only support GMTLS TLSv1.2 TLSv1.3");
+    }
+  }
+
+  /**
+   * Returns the protocols enabled for a configured protocol. TLSv1.3 also
+   * enables TLSv1.2, so servers without TLSv1.3 support can still be reached.
+   *
+   * @param protocol The configured protocol
+   * @return The enabled protocols
+   */
+  private static String[] enabledProtocols(String protocol) {
+    if (Constant.TLS13_PROTOCOL.equals(protocol)) {
+      return new String[] { Constant.TLS13_PROTOCOL, Constant.INTERNATIONAL_PROTOCOL };
+    }
+    return new String[] { protocol };
+  }
+
+  /**
+   * Restricts an OkHttpClient to the preferred cipher suites, or an
+   * OkHttpClient using TLSv1.3 to the TLSv1.3 and TLSv1.2 cipher suites of the
+   * SDK. Other clients keep the OkHttp defaults. OkHttp keeps the order of the
+   * cipher suites enabled on the socket.
+   *
+   * @param builder      The builder of the client
+   * @param protocol     The configured protocol
+   * @param cipherSuites The preferred cipher suites, null for the defaults
+   */
+  private static void configureConnectionSpecs(OkHttpClient.Builder builder, String protocol,
+      String[] cipherSuites) {
     if (Constant.GM_PROTOCOL.equals(protocol)) {
-      Security.insertProviderAt(new BGMProvider(), 1);
-      sslContext = SSLContext.getInstance(Constant.GM_PROTOCOL, "BGMProvider");
+      return;
+    }
+    if (cipherSuites != null || Constant.TLS13_PROTOCOL.equals(protocol)) {
+      ConnectionSpec tls = new ConnectionSpec.Builder(ConnectionSpec.MODERN_TLS)
+          .tlsVersions(enabledProtocols(protocol))
+          .cipherSuites(cipherSuites != null ? cipherSuites : enabledCipherSuites(protocol)).build();
+      builder.connectionSpecs(Arrays.asList(tls, ConnectionSpec.CLEARTEXT));
     }
+  }
 
-    TrustManagerFactory tmf = TrustManagerFactory.getInstance(Constant.TRUST_MANAGER_FACTORY);
-    tmf.init((KeyStore) null);
-    TrustManager[] verify = tmf.getTrustManagers();
-    sslContext.init(kms, verify, secureRandom);
+  /**
+   * Returns the cipher suites of a client in order of preference.
+   *
+   * @param sslContext   The SSLContext of the client
+   * @param protocol     The configured protocol
+   * @param cipherSuites The preferred cipher suites, null for the defaults of
+   *                     the SDK
+   * @return The cipher suites
+   * @throws IllegalArgumentException If no cipher suite is given or one is not
+   *                                  supported by the SSLContext
+   */
+  private static String[] clientCipherSuites(SSLContext sslContext, String protocol, String[] cipherSuites) {
+    if (cipherSuites == null) {
+      return enabledCipherSuites(protocol);
+    }
+    if (cipherSuites.length == 0) {
+      throw new IllegalArgumentException("at least one cipher suite is required");
+    }
+    List<String> supported = Arrays.asList(sslContext.getSupportedSSLParameters().getCipherSuites());
+    for (String cipherSuite : cipherSuites) {
+      if (!supported.contains(cipherSuite)) {
+        throw new IllegalArgumentException("cipher suite not supported: " + cipherSuite);
+      }
+    }
+    return cipherSuites.clone();
+  }
 
-    sslContext.getServerSessionContext().setSessionCacheSize(8192);
-    sslContext.getServerSessionContext().setSessionTimeout(3600);
+  /**
+   * Returns the cipher suites enabled for a configured protocol.
+   *
+   * @param protocol The configured protocol
+   * @return The enabled cipher suites
+   */
+  private static String[] enabledCipherSuites(String protocol) {
+    if (Constant.TLS13_PROTOCOL.equals(protocol)) {
+      String[] cipherSuites = Arrays.copyOf(Constant.SUPPORTED_TLS13_CIPHER_SUITES,
+          Constant.SUPPORTED_TLS13_CIPHER_SUITES.length + Constant.SUPPORTED_CIPHER_SUITES.length);
+      System.arraycopy(Constant.SUPPORTED_CIPHER_SUITES, 0, cipherSuites, Constant.SUPPORTED_TLS13_CIPHER_SUITES.length,
+          Constant.SUPPORTED_CIPHER_SUITES.length);
+      return cipherSuites;
+    }
+    return Constant.SUPPORTED_CIPHER_SUITES;
+  }
+
+  private static SSLContext newSslContext(String protocol, TrustManager[] trustManagers)
+      throws NoSuchAlgorithmException, NoSuchProviderException, KeyManagementException {
+    KeyManager[] kms = null;
+    SSLContext sslContext;
+    if (Constant.GM_PROTOCOL.equals(protocol)) {
+      installBgmProvider();
+      sslContext = SSLContext.getInstance(Constant.GM_PROTOCOL, "BGMProvider");
+    } else {
+      sslContext = SSLContext.getInstance(protocol, "SunJSSE");
+    }
+    sslContext.init(kms, trustManagers, getSecureRandom());
+    // the SDK is a TLS client, sessions are resumed from the client session cache
+    sslContext.getClientSessionContext().setSessionCacheSize(clientSessionCacheSize);
+    sslContext.getClientSessionContext().setSessionTimeout(clientSessionTimeout);
     return sslContext;
   }
 
+  /**
+   * Returns the shared hostname verifier trusting a host name.
+   *
+   * @param hostName The trusted host name, null for the host name set with
+   *                 HostName.setUrlHostName
+   * @return The hostname verifier
+   */
+  private static HostnameVerifier getHostnameVerifier(String hostName) {
+    if (hostName == null) {
+      return HOSTNAME_VERIFIERS.computeIfAbsent("", key -> new TheRealHostnameVerifier(null));
+    }
+    return HOSTNAME_VERIFIERS.computeIfAbsent(hostName, TheRealHostnameVerifier::new);
+  }
+
+  private static SSLSocketFactory getSocketFactory(SSLContext sslContext) {
+    return SOCKET_FACTORIES.computeIfAbsent(sslContext,
+        context -> new HandshakeCountingSocketFactory(context.getSocketFactory()));
+  }
+
+  /**
+   * Returns a socket factory enabling the preferred cipher suites on its
+   * sockets.
+   *
+   * @param sslContext   The SSLContext of the client
+   * @param cipherSuites The preferred cipher suites, null for the shared
+   *                     factory of the SSLContext
+   * @return The socket factory
+   */
+  private static SSLSocketFactory getSocketFactory(SSLContext sslContext, String[] cipherSuites) {
+    if (cipherSuites == null) {
+      return getSocketFactory(sslContext);
+    }
+    return new HandshakeCountingSocketFactory(sslContext.getSocketFactory(), cipherSuites);
+  }
+
+  private static void installBgmProvider() {
+    if (!bgmProviderInstalled) {
+      synchronized (SSLCipherSuiteUtil.class) {
+        if (!bgmProviderInstalled) {
+          Security.insertProviderAt(new BGMProvider(), 1);
+          bgmProviderInstalled = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the X509TrustManager of the default trust store, loading it on
+   * first use.
+   *
+   * @return The trust manager
+   * @throws NoSuchAlgorithmException If the trust manager algorithm is not
+   *                                  available
+   * @throws KeyStoreException        If the default trust store can not be
+   *                                  loaded
+   */
+  private static X509TrustManager getDefaultTrustManager() throws NoSuchAlgorithmException, KeyStoreException {
+    X509TrustManager trustManager = defaultTrustManager;
+    if (trustManager == null) {
+      TrustManagerFactory tmf = TrustManagerFactory.getInstance(Constant.TRUST_MANAGER_FACTORY);
+      tmf.init((KeyStore) null);
+      trustManager = (X509TrustManager) tmf.getTrustManagers()[0];
+      defaultTrustManager = trustManager;
+    }
+    return trustManager;
+  }
+
   /**
    * HostnameVerifier that trusts all hostnames.
    * This is used to bypass hostname verification in SSL connections.
@@ -254,18 +693,27 @@ public class SSLCipherSuiteUtil {
   }
 
   /**
-   * HostnameVerifier that checks the hostname against a set URL host name.
-   * If the hostname does not match, it falls back to the default hostname
-   * verifier.
+   * HostnameVerifier that trusts a host name. Other hostnames are verified
+   * against the certificate of the server.
    */
   private static class TheRealHostnameVerifier implements HostnameVerifier {
+    private final String trustedHostName;
+    private final HostnameVerifier certificateVerifier = new DefaultHostnameVerifier();
+
+    /**
+     * Constructor to initialize the hostname verifier.
+     *
+     * @param trustedHostName The trusted host name, null to check the host name
+     *                        set with HostName.setUrlHostName
+     */
+    TheRealHostnameVerifier(String trustedHostName) {
+      this.trustedHostName = trustedHostName;
+    }
+
     public boolean verify(String hostname, SSLSession session) {
-      if (HostName.checkHostName(hostname)) {
-        return true;
-      } else {
-        HostnameVerifier hv = HttpsURLConnection.getDefaultHostnameVerifier();
-        return hv.verify(hostname, session);
-      }
+      boolean trusted = this.trustedHostName == null ? HostName.checkHostName(hostname)
+          : this.trustedHostName.equals(hostname);
+      return trusted || this.certificateVerifier.verify(hostname, session);
     }
   }
 
@@ -292,13 +740,27 @@ public class SSLCipherSuiteUtil {
   }
 
   /**
-   * Returns a SecureRandom instance with a specific algorithm.
-   * If the algorithm is not available, it falls back to a strong SecureRandom
-   * instance.
+   * Returns the SecureRandom of a new SSLContext, SP800 CTR DRBGs striped over
+   * threads and reseeded according to the DRBG mode.
    *
    * @return An instance of SecureRandom
    */
   private static SecureRandom getSecureRandom() {
+    boolean predictionResistant = drbgMode == DrbgMode.PREDICTION_RESISTANT;
+    long reseedIntervalMillis = predictionResistant ? 0L : drbgReseedIntervalMillis;
+    return new StripedSecureRandom(Runtime.getRuntime().availableProcessors(), reseedIntervalMillis,
+        () -> newDrbg(predictionResistant));
+  }
+
+  /**
+   * Returns an SP800 CTR DRBG seeded from NativePRNGNonBlocking. If the
+   * algorithm is not available, it falls back to a strong SecureRandom
+   * instance.
+   *
+   * @param predictionResistant Whether to reseed on every request
+   * @return The DRBG
+   */
+  private static SP800SecureRandom newDrbg(boolean predictionResistant) {
     SecureRandom source;
     try {
       source = SecureRandom.getInstance(Constant.SECURE_RANDOM_ALGORITHM_NATIVE_PRNG_NON_BLOCKING);
@@ -310,10 +772,9 @@ public class SSLCipherSuiteUtil {
         throw new RuntimeException("get SecureRandom failed");
       }
     }
-    boolean predictionResistant = true;
     BlockCipher cipher = AESEngine.newInstance();
     boolean reSeed = false;
     return new SP800SecureRandomBuilder(source, predictionResistant).setEntropyBitsRequired(
         ENTROPY_BITS_REQUIRED).buildCTR(cipher, CIPHER_LEN, null, reSeed);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.SecureRandomParameters;
+import java.security.SecureRandomSpi;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.bouncycastle.crypto.prng.SP800SecureRandom;
+
+/**
+ * SecureRandom spreading the requests of concurrent threads over several
+ * DRBG instances, so TLS handshakes on different threads do not contend on a
+ * single DRBG lock. In DrbgMode.RESEEDED a stripe reseeds itself once the
+ * reseed interval elapsed.
+ * reseed() reseeds all stripes. Parameters for generating or reseeding are not
+ * supported, the DRBGs are configured when they are created.
+ */
+final class StripedSecureRandom extends SecureRandom {
+  private static final long serialVersionUID = -2981534712057641095L;
+  private static final Provider PROVIDER = new StripedProvider();
+
+  private final transient StripedSpi spi;
+  private final String algorithm;
+
+  /**
+   * Provider reported by getProvider, the DRBGs are not registered.
+   */
+  private static final class StripedProvider extends Provider {
+    private static final long serialVersionUID = 4625431980376104418L;
+
+    StripedProvider() {
+      super("OTC-SDK", "1.0", "Striped SP800-90A DRBG of the OTC SDK");
+    }
+  }
+
+  /**
+   * A DRBG and the time of its last reseed.
+   */
+  private static final class Stripe {
+    private final SP800SecureRandom drbg;
+    private final long reseedIntervalNanos;
+    private final AtomicLong lastReseed = new AtomicLong(System.nanoTime());
+
+    Stripe(SP800SecureRandom drbg, long reseedIntervalNanos) {
+      this.drbg = drbg;
+      this.reseedIntervalNanos = reseedIntervalNanos;
+    }
+
+    SP800SecureRandom get() {
+      if (this.reseedIntervalNanos > 0L) {
+        long now = System.nanoTime();
+        long last = this.lastReseed.get();
+        // only the thread moving lastReseed forward reseeds
+        if (now - last >= this.reseedIntervalNanos && this.lastReseed.compareAndSet(last, now)) {
+          this.drbg.reseed((byte[]) null);
+        }
+      }
+      return this.drbg;
+    }
+
+    void reseed() {
+      this.lastReseed.set(System.nanoTime());
+      this.drbg.reseed((byte[]) null);
+    }
+  }
+
+  /**
+   * SecureRandomSpi delegating to the stripe of the current thread.
+   */
+  private static final class StripedSpi extends SecureRandomSpi {
+    private static final long serialVersionUID = 7102446853281207931L;
+
+    private final transient Stripe[] stripes;
+    private final int mask;
+
+    StripedSpi(int size, long reseedIntervalMillis, Supplier<SP800SecureRandom> drbgFactory) {
+      this.stripes = new Stripe[size];
+      this.mask = size - 1;
+      for (int i = 0; i < size; ++i) {
+        this.stripes[i] = new Stripe(drbgFactory.get(), reseedIntervalMillis * 1000000L);
+      }
+    }
+
+    private SP800SecureRandom current() {
+      long id = Thread.currentThread().getId();
+      return this.stripes[(int) (id ^ (id >>> 16)) & this.mask].get();
+    }
+
+    @Override
+    protected void engineSetSeed(byte[] seed) {
+      this.current().setSeed(seed);
+    }
+
+    @Override
+    protected void engineNextBytes(byte[] bytes) {
+      this.current().nextBytes(bytes);
+    }
+
+    @Override
+    protected void engineNextBytes(byte[] bytes, SecureRandomParameters params) {
+      throw new UnsupportedOperationException("parameters are not supported");
+    }
+
+    @Override
+    protected byte[] engineGenerateSeed(int numBytes) {
+      return this.current().generateSeed(numBytes);
+    }
+
+    @Override
+    protected void engineReseed(SecureRandomParameters params) {
+      if (params != null) {
+        throw new UnsupportedOperationException("parameters are not supported");
+      }
+      for (Stripe stripe : this.stripes) {
+        stripe.reseed();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "StripedSecureRandom[" + this.stripes.length + " x " + this.stripes[0].drbg.getAlgorithm() + "]";
+    }
+  }
+
+  /**
+   * Constructor to initialize the StripedSecureRandom.
+   *
+   * @param stripeCount          Number of DRBG instances, rounded up to a power
+   *                             of two
+   * @param reseedIntervalMillis Time between reseeds of a stripe, 0 to rely on
+   *                             the DRBG, e.g. when it is prediction resistant
+   * @param drbgFactory          Creates the DRBG instances
+   */
+  StripedSecureRandom(int stripeCount, long reseedIntervalMillis, Supplier<SP800SecureRandom> drbgFactory) {
+    this(new StripedSpi(powerOfTwo(stripeCount), reseedIntervalMillis, drbgFactory));
+  }
+
+  private StripedSecureRandom(StripedSpi spi) {
+    super(spi, PROVIDER);
+    this.spi = spi;
+    this.algorithm = spi.stripes[0].drbg.getAlgorithm();
+  }
+
+  private static int powerOfTwo(int count) {
+    int size = 1;
+    while (size < count) {
+      size <<= 1;
+    }
+    return size;
+  }
+
+  @Override
+  public String getAlgorithm() {
+    return this.algorithm;
+  }
+
+  // the methods used for TLS handshakes call the stripes directly, the
+  // inherited ones would synchronize on this SecureRandom
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    this.spi.engineNextBytes(bytes);
+  }
+
+  @Override
+  public byte[] generateSeed(int numBytes) {
+    return this.spi.engineGenerateSeed(numBytes);
+  }
+
+  @Override
+  public void setSeed(byte[] seed) {
+    if (this.spi != null) {
+      this.spi.engineSetSeed(seed);
+    }
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    // called by the Random constructor before the stripes exist
+    if (this.spi != null) {
+      this.spi.current().setSeed(seed);
+    }
+  }
+}
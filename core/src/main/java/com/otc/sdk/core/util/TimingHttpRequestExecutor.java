@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.IOException;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import com.otc.sdk.core.metrics.CallTimer;
+
+/**
+ * HttpRequestExecutor reporting when a request is sent over an established
+ * connection and when its response headers arrive to the CallTimer of the
+ * current thread.
+ */
+final class TimingHttpRequestExecutor extends HttpRequestExecutor {
+
+  @Override
+  public HttpResponse execute(HttpRequest request, HttpClientConnection connection, HttpContext context)
+      throws IOException, HttpException {
+    CallTimer timer = CallTimer.current();
+    if (timer == null) {
+      return super.execute(request, connection, context);
+    }
+    long requestStart = timer.requestStarted();
+    HttpResponse response = super.execute(request, connection, context);
+    timer.responseReceived(requestStart);
+    return response;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import com.otc.sdk.core.metrics.CallTimer;
+
+/**
+ * SSLConnectionSocketFactory reporting connecting and the TLS handshake to the
+ * CallTimer of the current thread.
+ */
+final class TimingSSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+
+  /**
+   * Constructor to initialize the TimingSSLConnectionSocketFactory.
+   *
+   * @param socketFactory    The factory creating the TLS sockets
+   * @param protocols        The enabled protocols
+   * @param cipherSuites     The enabled cipher suites
+   * @param hostnameVerifier The hostname verifier
+   */
+  TimingSSLConnectionSocketFactory(SSLSocketFactory socketFactory, String[] protocols, String[] cipherSuites,
+      HostnameVerifier hostnameVerifier) {
+    super(socketFactory, protocols, cipherSuites, hostnameVerifier);
+  }
+
+  @Override
+  public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+      InetSocketAddress localAddress, HttpContext context) throws IOException {
+    CallTimer timer = CallTimer.current();
+    if (timer == null) {
+      return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+    }
+    timer.connectStarted();
+    Socket connected = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+    timer.connected();
+    return connected;
+  }
+
+  @Override
+  protected void prepareSocket(SSLSocket socket) throws IOException {
+    CallTimer timer = CallTimer.current();
+    if (timer != null) {
+      timer.tlsStarted();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the TLS handshakes of the clients created by SSLCipherSuiteUtil.
+ * A handshake is counted as resumed if the negotiated session was created
+ * before the connection, i.e. it was taken from the client session cache.
+ */
+public final class TlsHandshakeMetrics {
+  private static final LongAdder FULL_HANDSHAKES = new LongAdder();
+  private static final LongAdder RESUMED_HANDSHAKES = new LongAdder();
+
+  private TlsHandshakeMetrics() {
+  }
+
+  /**
+   * Returns the number of full handshakes, which created a new session.
+   *
+   * @return The number of full handshakes
+   */
+  public static long getFullHandshakes() {
+    return FULL_HANDSHAKES.sum();
+  }
+
+  /**
+   * Returns the number of abbreviated handshakes, which resumed a cached
+   * session.
+   *
+   * @return The number of resumed handshakes
+   */
+  public static long getResumedHandshakes() {
+    return RESUMED_HANDSHAKES.sum();
+  }
+
+  /**
+   * Resets both counters to zero.
+   */
+  public static void reset() {
+    FULL_HANDSHAKES.reset();
+    RESUMED_HANDSHAKES.reset();
+  }
+
+  static void record(boolean resumed) {
+    if (resumed) {
+      RESUMED_HANDSHAKES.increment();
+    } else {
+      FULL_HANDSHAKES.increment();
+    }
+  }
+}
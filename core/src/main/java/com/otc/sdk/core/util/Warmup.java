@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.core.util;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.service.Request;
+
+/**
+ * Warmup initializes the signing algorithms and the TLS context of the SDK in
+ * a background thread, so the first request of an application does not wait
+ * for class loading, provider setup and DRBG seeding.
+ * Nothing is initialized unless a warm-up is started, the SDK initializes the
+ * same parts lazily on first use.
+ */
+public final class Warmup {
+  private static final Logger LOGGER = LoggerFactory.getLogger(Warmup.class);
+
+  private Warmup() {
+  }
+
+  /**
+   * Starts warming up in a daemon thread. Failures are logged and do not
+   * fail the returned future, the first request initializes the failed part
+   * again.
+   *
+   * @param protocol                The SSL protocol to prepare (e.g., "GMTLS",
+   *                                "TLSv1.2"), null to skip TLS
+   * @param verify                  Whether the context of clients with SSL
+   *                                verification is prepared
+   * @param messageDigestAlgorithms The signing algorithms to prepare, e.g.
+   *                                "SDK-HMAC-SHA256" and "SDK-HMAC-SM3"
+   * @return The future completed when the warm-up is done
+   */
+  public static CompletableFuture<Void> start(String protocol, boolean verify, String... messageDigestAlgorithms) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    Thread thread = new Thread(() -> {
+      for (String messageDigestAlgorithm : messageDigestAlgorithms) {
+        warmUpSigner(messageDigestAlgorithm);
+      }
+      if (protocol != null) {
+        try {
+          SSLCipherSuiteUtil.warmUp(protocol, verify);
+        } catch (Exception e) {
+          LOGGER.warn("warm-up of {} failed: {}", protocol, e.getMessage());
+        }
+      }
+      done.complete(null);
+    }, "otc-sdk-warmup");
+    thread.setDaemon(true);
+    thread.start();
+    return done;
+  }
+
+  /**
+   * Signs a dummy request with an algorithm.
+   *
+   * @param messageDigestAlgorithm The signing algorithm
+   */
+  private static void warmUpSigner(String messageDigestAlgorithm) {
+    try {
+      Request request = new Request();
+      request.setKey("warmup");
+      request.setSecret("warmup");
+      request.setMethod("GET");
+      request.setUrl("https://localhost/warmup");
+      request.setBody("");
+      new Signer(messageDigestAlgorithm).sign(request);
+    } catch (Exception e) {
+      LOGGER.warn("warm-up of {} failed: {}", messageDigestAlgorithm, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.fg;
+
+import com.otc.sdk.codegen.JsonField;
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Function as returned by the FunctionGraph API v2 request listing functions.
+ */
+@JsonModel
+public class FunctionInfo {
+  @JsonField("func_urn")
+  private String funcUrn;
+  @JsonField("func_name")
+  private String funcName;
+  @JsonField("domain_id")
+  private String domainId;
+  private String namespace;
+  @JsonField("project_name")
+  private String projectName;
+  @JsonField("package")
+  private String packageName;
+  private String runtime;
+  private Integer timeout;
+  private String handler;
+  @JsonField("memory_size")
+  private Integer memorySize;
+  @JsonField("code_type")
+  private String codeType;
+  @JsonField("code_size")
+  private Long codeSize;
+  private String version;
+  private String description;
+  @JsonField("last_modified")
+  private String lastModified;
+
+  public String getFuncUrn() {
+    return this.funcUrn;
+  }
+
+  public void setFuncUrn(String funcUrn) {
+    this.funcUrn = funcUrn;
+  }
+
+  public String getFuncName() {
+    return this.funcName;
+  }
+
+  public void setFuncName(String funcName) {
+    this.funcName = funcName;
+  }
+
+  public String getDomainId() {
+    return this.domainId;
+  }
+
+  public void setDomainId(String domainId) {
+    this.domainId = domainId;
+  }
+
+  public String getNamespace() {
+    return this.namespace;
+  }
+
+  public void setNamespace(String namespace) {
+    this.namespace = namespace;
+  }
+
+  public String getProjectName() {
+    return this.projectName;
+  }
+
+  public void setProjectName(String projectName) {
+    this.projectName = projectName;
+  }
+
+  public String getPackageName() {
+    return this.packageName;
+  }
+
+  public void setPackageName(String packageName) {
+    this.packageName = packageName;
+  }
+
+  public String getRuntime() {
+    return this.runtime;
+  }
+
+  public void setRuntime(String runtime) {
+    this.runtime = runtime;
+  }
+
+  public Integer getTimeout() {
+    return this.timeout;
+  }
+
+  public void setTimeout(Integer timeout) {
+    this.timeout = timeout;
+  }
+
+  public String getHandler() {
+    return this.handler;
+  }
+
+  public void setHandler(String handler) {
+    this.handler = handler;
+  }
+
+  public Integer getMemorySize() {
+    return this.memorySize;
+  }
+
+  public void setMemorySize(Integer memorySize) {
+    this.memorySize = memorySize;
+  }
+
+  public String getCodeType() {
+    return this.codeType;
+  }
+
+  public void setCodeType(String codeType) {
+    this.codeType = codeType;
+  }
+
+  public Long getCodeSize() {
+    return this.codeSize;
+  }
+
+  public void setCodeSize(Long codeSize) {
+    this.codeSize = codeSize;
+  }
+
+  public String getVersion() {
+    return this.version;
+  }
+
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
+  public String getDescription() {
+    return this.description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public String getLastModified() {
+    return this.lastModified;
+  }
+
+  public void setLastModified(String lastModified) {
+    this.lastModified = lastModified;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.fg;
+
+import java.util.List;
+
+import com.otc.sdk.codegen.JsonField;
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Response of the FunctionGraph API v2 request listing functions.
+ */
+@JsonModel
+public class ListFunctionsResponse {
+  private List<FunctionInfo> functions;
+  @JsonField("next_marker")
+  private Long nextMarker;
+  private Long count;
+
+  public List<FunctionInfo> getFunctions() {
+    return this.functions;
+  }
+
+  public void setFunctions(List<FunctionInfo> functions) {
+    this.functions = functions;
+  }
+
+  public Long getNextMarker() {
+    return this.nextMarker;
+  }
+
+  public void setNextMarker(Long nextMarker) {
+    this.nextMarker = nextMarker;
+  }
+
+  public Long getCount() {
+    return this.count;
+  }
+
+  public void setCount(Long count) {
+    this.count = count;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.iam;
+
+import com.otc.sdk.codegen.JsonField;
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Temporary access key, secret key and security token.
+ */
+@JsonModel
+public class Credential {
+  private String access;
+  private String secret;
+  @JsonField("securitytoken")
+  private String securityToken;
+  @JsonField("expires_at")
+  private String expiresAt;
+
+  public String getAccess() {
+    return this.access;
+  }
+
+  public void setAccess(String access) {
+    this.access = access;
+  }
+
+  public String getSecret() {
+    return this.secret;
+  }
+
+  public void setSecret(String secret) {
+    this.secret = secret;
+  }
+
+  public String getSecurityToken() {
+    return this.securityToken;
+  }
+
+  public void setSecurityToken(String securityToken) {
+    this.securityToken = securityToken;
+  }
+
+  public String getExpiresAt() {
+    return this.expiresAt;
+  }
+
+  public void setExpiresAt(String expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
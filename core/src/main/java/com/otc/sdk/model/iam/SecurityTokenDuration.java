@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.iam;
+
+import com.otc.sdk.codegen.JsonField;
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Validity of a requested security token.
+ */
+@JsonModel
+public class SecurityTokenDuration {
+  @JsonField("duration_seconds")
+  private Integer durationSeconds;
+
+  public Integer getDurationSeconds() {
+    return this.durationSeconds;
+  }
+
+  public void setDurationSeconds(Integer durationSeconds) {
+    this.durationSeconds = durationSeconds;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.iam;
+
+import java.util.List;
+
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Identity part of a SecurityTokenRequest.
+ */
+@JsonModel
+public class SecurityTokenIdentity {
+  private List<String> methods;
+  private SecurityTokenDuration token;
+
+  public List<String> getMethods() {
+    return this.methods;
+  }
+
+  public void setMethods(List<String> methods) {
+    this.methods = methods;
+  }
+
+  public SecurityTokenDuration getToken() {
+    return this.token;
+  }
+
+  public void setToken(SecurityTokenDuration token) {
+    this.token = token;
+  }
+}
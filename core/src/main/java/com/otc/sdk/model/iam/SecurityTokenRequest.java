@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.iam;
+
+import java.util.Collections;
+
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Request body of the IAM request creating a temporary security token.
+ */
+@JsonModel
+public class SecurityTokenRequest {
+  private SecurityTokenAuth auth;
+
+  /**
+   * Creates a request for a security token derived from the token of the
+   * caller.
+   *
+   * @param durationSeconds Validity of the security token in seconds
+   * @return The request
+   */
+  public static SecurityTokenRequest withDuration(int durationSeconds) {
+    SecurityTokenDuration token = new SecurityTokenDuration();
+    token.setDurationSeconds(durationSeconds);
+    SecurityTokenIdentity identity = new SecurityTokenIdentity();
+    identity.setMethods(Collections.singletonList("token"));
+    identity.setToken(token);
+    SecurityTokenAuth auth = new SecurityTokenAuth();
+    auth.setIdentity(identity);
+    SecurityTokenRequest request = new SecurityTokenRequest();
+    request.setAuth(auth);
+    return request;
+  }
+
+  public SecurityTokenAuth getAuth() {
+    return this.auth;
+  }
+
+  public void setAuth(SecurityTokenAuth auth) {
+    this.auth = auth;
+  }
+}
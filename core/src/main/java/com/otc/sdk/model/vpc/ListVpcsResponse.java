@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.vpc;
+
+import java.util.List;
+
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Response of the VPC API v1 request listing VPCs.
+ * For large lists, stream the vpcs array with JsonStreams.elements and
+ * VpcJsonCodec.INSTANCE instead.
+ */
+@JsonModel
+public class ListVpcsResponse {
+  private List<Vpc> vpcs;
+
+  public List<Vpc> getVpcs() {
+    return this.vpcs;
+  }
+
+  public void setVpcs(List<Vpc> vpcs) {
+    this.vpcs = vpcs;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.vpc;
+
+import java.util.List;
+
+import com.otc.sdk.codegen.JsonField;
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Virtual Private Cloud as returned by the VPC API v1.
+ */
+@JsonModel
+public class Vpc {
+  private String id;
+  private String name;
+  private String description;
+  private String cidr;
+  private String status;
+  private List<VpcRoute> routes;
+  @JsonField("enterprise_project_id")
+  private String enterpriseProjectId;
+  @JsonField("tenant_id")
+  private String tenantId;
+  @JsonField("created_at")
+  private String createdAt;
+  @JsonField("updated_at")
+  private String updatedAt;
+
+  public String getId() {
+    return this.id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return this.description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public String getCidr() {
+    return this.cidr;
+  }
+
+  public void setCidr(String cidr) {
+    this.cidr = cidr;
+  }
+
+  public String getStatus() {
+    return this.status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public List<VpcRoute> getRoutes() {
+    return this.routes;
+  }
+
+  public void setRoutes(List<VpcRoute> routes) {
+    this.routes = routes;
+  }
+
+  public String getEnterpriseProjectId() {
+    return this.enterpriseProjectId;
+  }
+
+  public void setEnterpriseProjectId(String enterpriseProjectId) {
+    this.enterpriseProjectId = enterpriseProjectId;
+  }
+
+  public String getTenantId() {
+    return this.tenantId;
+  }
+
+  public void setTenantId(String tenantId) {
+    this.tenantId = tenantId;
+  }
+
+  public String getCreatedAt() {
+    return this.createdAt;
+  }
+
+  public void setCreatedAt(String createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public String getUpdatedAt() {
+    return this.updatedAt;
+  }
+
+  public void setUpdatedAt(String updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.model.vpc;
+
+import com.otc.sdk.codegen.JsonModel;
+
+/**
+ * Route of a Virtual Private Cloud.
+ */
+@JsonModel
+public class VpcRoute {
+  private String destination;
+  private String nexthop;
+
+  public String getDestination() {
+    return this.destination;
+  }
+
+  public void setDestination(String destination) {
+    this.destination = destination;
+  }
+
+  public String getNexthop() {
+    return this.nexthop;
+  }
+
+  public void setNexthop(String nexthop) {
+    this.nexthop = nexthop;
+  }
+}
@@ -17,11 +17,13 @@ package com.otc.sdk.service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpHead;
@@ -30,10 +32,12 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.StringEntity;
 
 import com.otc.sdk.core.auth.signer.Signer;
 import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.util.GzipUtils;
 
 /**
  * Implementation of the AccessService that provides methods to access resources
@@ -95,19 +99,17 @@ public class AccessServiceImpl extends AccessService {
 
     request.setBody(content);
     Signer signer = new Signer(this.messageDigestAlgorithm);
-    signer.sign(request);
-    HttpRequestBase httpRequestBase = createRequest(url, (Header) null, content, httpMethod);
-    Iterator var8 = request.getHeaders().entrySet().iterator();
-
-    while (var8.hasNext()) {
-      Entry<String, String> map = (Entry) var8.next();
-      if (map.getKey() != null && !((String) map.getKey()).equalsIgnoreCase("Content-Length")
-          && map.getValue() != null) {
-        httpRequestBase.addHeader((String) map.getKey(),
-            new String(((String) map.getValue()).getBytes(UTF8), CHAR_SET_NAME_ISO));
-      }
+    HttpRequestBase httpRequestBase;
+    if (GzipUtils.shouldCompress(httpMethod, content, this.gzipThreshold)) {
+      byte[] compressed = GzipUtils.gzip(content);
+      request.addHeader(GzipUtils.CONTENT_ENCODING, GzipUtils.GZIP);
+      signer.resign(request, signer.contentHash(compressed));
+      httpRequestBase = createRequest(url, new ByteArrayEntity(compressed), httpMethod);
+    } else {
+      signer.sign(request);
+      httpRequestBase = createRequest(url, (Header) null, content, httpMethod);
     }
-
+    addHeaders(httpRequestBase, request.getHeaders());
     return httpRequestBase;
   }
 
@@ -151,30 +153,39 @@ public class AccessServiceImpl extends AccessService {
    * @return HttpRequestBase object representing the HTTP request
    */
   private static HttpRequestBase createRequest(String url, Header header, String content, HttpMethodName httpMethod) {
-    Object httpRequest;
-    StringEntity entity;
+    HttpEntity entity = null;
+    if (content != null) {
+      entity = new StringEntity(content, StandardCharsets.UTF_8);
+    }
+
+    HttpRequestBase httpRequest = createRequest(url, entity, httpMethod);
+    httpRequest.addHeader(header);
+    return httpRequest;
+  }
+
+  /**
+   * Create an HTTP request with the given entity. The entity is only attached
+   * to POST, PUT and PATCH requests.
+   *
+   * @param url        URL of the resource
+   * @param entity     Entity to send with the request (can be null)
+   * @param httpMethod HTTP method to use (GET, POST, etc.)
+   * @return HttpRequestBase object representing the HTTP request
+   */
+  static HttpRequestBase createRequest(String url, HttpEntity entity, HttpMethodName httpMethod) {
+    HttpRequestBase httpRequest;
     if (httpMethod == HttpMethodName.POST) {
       HttpPost postMethod = new HttpPost(url);
-      if (content != null) {
-        entity = new StringEntity(content, StandardCharsets.UTF_8);
-        postMethod.setEntity(entity);
-      }
-
+      postMethod.setEntity(entity);
       httpRequest = postMethod;
     } else if (httpMethod == HttpMethodName.PUT) {
       HttpPut putMethod = new HttpPut(url);
+      putMethod.setEntity(entity);
       httpRequest = putMethod;
-      if (content != null) {
-        entity = new StringEntity(content, StandardCharsets.UTF_8);
-        putMethod.setEntity(entity);
-      }
     } else if (httpMethod == HttpMethodName.PATCH) {
       HttpPatch patchMethod = new HttpPatch(url);
+      patchMethod.setEntity(entity);
       httpRequest = patchMethod;
-      if (content != null) {
-        entity = new StringEntity(content, StandardCharsets.UTF_8);
-        patchMethod.setEntity(entity);
-      }
     } else if (httpMethod == HttpMethodName.GET) {
       httpRequest = new HttpGet(url);
     } else if (httpMethod == HttpMethodName.DELETE) {
@@ -189,7 +200,23 @@ public class AccessServiceImpl extends AccessService {
       httpRequest = new HttpHead(url);
     }
 
-    ((HttpRequestBase) httpRequest).addHeader(header);
-    return (HttpRequestBase) httpRequest;
+    return httpRequest;
+  }
+
+  /**
+   * Copies the signed headers to the HTTP request. Content-Length is skipped,
+   * it is set by the entity.
+   *
+   * @param httpRequest The HTTP request to add the headers to
+   * @param headers     The signed headers
+   * @throws UnsupportedEncodingException if a header value can not be encoded
+   */
+  static void addHeaders(HttpRequestBase httpRequest, Map<String, String> headers)
+      throws UnsupportedEncodingException {
+    for (Entry<String, String> map : headers.entrySet()) {
+      if (map.getKey() != null && !map.getKey().equalsIgnoreCase("Content-Length") && map.getValue() != null) {
+        httpRequest.addHeader(map.getKey(), new String(map.getValue().getBytes(UTF8), CHAR_SET_NAME_ISO));
+      }
+    }
   }
 }
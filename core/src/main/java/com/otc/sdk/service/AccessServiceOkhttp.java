@@ -28,6 +28,7 @@ public abstract class AccessServiceOkhttp {
   protected String ak;
   protected String sk;
   protected String messageDigestAlgorithm = "SDK-HMAC-SHA256";
+  protected int gzipThreshold = -1;
 
   /**
    * Constructor to initialize the AccessServiceOkhttp with access key and secret
@@ -143,4 +144,27 @@ public abstract class AccessServiceOkhttp {
   public void setSk(String sk) {
     this.sk = sk;
   }
+
+  /**
+   * Get the minimum body length for gzip compression.
+   *
+   * @return Minimum body length in characters, negative if compression is
+   *         disabled
+   */
+  public int getGzipThreshold() {
+    return this.gzipThreshold;
+  }
+
+  /**
+   * Enable gzip compression of POST, PUT and PATCH bodies. Compressed bodies
+   * are sent with Content-Encoding gzip and signed over the compressed bytes.
+   * The compressed body is held in memory as a whole, it is hashed for the
+   * signature before it is sent.
+   *
+   * @param gzipThreshold Minimum body length in characters, negative to
+   *                      disable compression (default)
+   */
+  public void setGzipThreshold(int gzipThreshold) {
+    this.gzipThreshold = gzipThreshold;
+  }
 }
@@ -23,6 +23,7 @@ import java.util.Map.Entry;
 
 import com.otc.sdk.core.auth.signer.Signer;
 import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.util.GzipUtils;
 
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -88,6 +89,13 @@ public class AccessServiceOkhttpImpl extends AccessServiceOkhttp {
 
     request.setBody(entity);
     Signer signer = new Signer(this.messageDigestAlgorithm);
+    if (GzipUtils.shouldCompress(httpMethod, entity, this.gzipThreshold)) {
+      byte[] compressed = GzipUtils.gzip(entity);
+      request.addHeader(GzipUtils.CONTENT_ENCODING, GzipUtils.GZIP);
+      signer.resign(request, signer.contentHash(compressed));
+      return createRequest(url, request.getHeaders(), RequestBody.create(compressed, null), httpMethod);
+    }
+
     signer.sign(request);
     return createRequest(url, request.getHeaders(), entity, httpMethod);
   }
@@ -134,6 +142,21 @@ public class AccessServiceOkhttpImpl extends AccessServiceOkhttp {
     }
 
     RequestBody entity = RequestBody.create(MediaType.parse(""), body.getBytes(UTF8));
+    return createRequest(url, headers, entity, httpMethod);
+  }
+
+  /**
+   * Create an okhttp3.Request object with the given request body. The body is
+   * not attached to GET, HEAD and OPTIONS requests.
+   *
+   * @param url        URL of the resource
+   * @param headers    Map of headers to include in the request
+   * @param entity     Body of the request
+   * @param httpMethod HTTP method to use (GET, POST, etc.)
+   * @return An okhttp3.Request object representing the HTTP request
+   */
+  static okhttp3.Request createRequest(String url, Map<String, String> headers, RequestBody entity,
+      HttpMethodName httpMethod) {
     okhttp3.Request httpRequest;
     if (httpMethod == HttpMethodName.POST) {
       httpRequest = (new Builder()).url(url).post(entity).build();
@@ -155,13 +178,11 @@ public class AccessServiceOkhttpImpl extends AccessServiceOkhttp {
       httpRequest = (new Builder()).url(url).method(OPTIONS, (RequestBody) null).build();
     }
 
-    Entry<String, String> map;
-    for (Iterator<Entry<String, String>> var6 = headers.entrySet().iterator(); var6
-        .hasNext(); httpRequest = httpRequest.newBuilder()
-            .addHeader(map.getKey(), map.getValue()).build()) {
-      map = var6.next();
+    okhttp3.Request.Builder builder = httpRequest.newBuilder();
+    for (Entry<String, String> map : headers.entrySet()) {
+      builder.addHeader(map.getKey(), map.getValue());
     }
 
-    return httpRequest;
+    return builder.build();
   }
 }
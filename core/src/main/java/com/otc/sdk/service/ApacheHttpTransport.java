@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.util.EntityUtils;
+
+import com.otc.sdk.core.metrics.CallTimer;
+import com.otc.sdk.core.metrics.RequestMetrics;
+import com.otc.sdk.core.metrics.RequestPhase;
+
+/**
+ * HttpTransport that sends requests with an Apache HttpClient.
+ * With RequestMetrics, all phases are recorded for clients created by
+ * SSLCipherSuiteUtil. For other clients only the time until the response
+ * headers and reading the body are recorded.
+ */
+public class ApacheHttpTransport implements HttpTransport<HttpResponse> {
+  private final HttpClient httpClient;
+  private volatile RequestMetrics requestMetrics;
+
+  /**
+   * Constructor to initialize the transport with an HTTP client, e.g. one
+   * created by SSLCipherSuiteUtil.createHttpClient.
+   *
+   * @param httpClient The HTTP client used to send requests
+   */
+  public ApacheHttpTransport(HttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  public RequestMetrics getRequestMetrics() {
+    return this.requestMetrics;
+  }
+
+  /**
+   * Set the metrics the phases and outcomes of requests are recorded in.
+   *
+   * @param requestMetrics The metrics, null to record nothing (default)
+   */
+  public void setRequestMetrics(RequestMetrics requestMetrics) {
+    this.requestMetrics = requestMetrics;
+  }
+
+  @Override
+  public Call<HttpResponse> newCall(Request request, byte[] body) throws IOException {
+    ByteArrayEntity entity = body == null ? null : new ByteArrayEntity(body);
+    HttpRequestBase httpRequest = AccessServiceImpl.createRequest(request.getUrl(), entity, request.getMethod());
+    AccessServiceImpl.addHeaders(httpRequest, request.getHeaders());
+    return new Call<HttpResponse>() {
+      @Override
+      public HttpResponse execute() throws IOException {
+        RequestMetrics metrics = requestMetrics;
+        if (metrics == null) {
+          return httpClient.execute(httpRequest);
+        }
+        CallTimer timer = CallTimer.start(metrics);
+        HttpResponse response;
+        try {
+          response = httpClient.execute(httpRequest);
+        } catch (IOException | RuntimeException e) {
+          timer.stop();
+          metrics.recordFailure();
+          throw e;
+        }
+        long responseTime = timer.stop();
+        metrics.recordResponse(response.getStatusLine().getStatusCode());
+        if (response.getEntity() != null) {
+          response.setEntity(new CompletionEntity(response.getEntity(),
+              () -> metrics.recordPhase(RequestPhase.READ_BODY, System.nanoTime() - responseTime)));
+        }
+        return response;
+      }
+
+      @Override
+      public void cancel() {
+        httpRequest.abort();
+      }
+    };
+  }
+
+  @Override
+  public int getStatusCode(HttpResponse response) {
+    return response.getStatusLine().getStatusCode();
+  }
+
+  @Override
+  public String getHeader(HttpResponse response, String name) {
+    Header header = response.getFirstHeader(name);
+    return header == null ? null : header.getValue();
+  }
+
+  @Override
+  public InputStream getContent(HttpResponse response) throws IOException {
+    HttpEntity entity = response.getEntity();
+    return entity == null ? new ByteArrayInputStream(new byte[0]) : entity.getContent();
+  }
+
+  @Override
+  public void release(HttpResponse response) {
+    EntityUtils.consumeQuietly(response.getEntity());
+    if (response instanceof Closeable) {
+      try {
+        ((Closeable) response).close();
+      } catch (IOException e) {
+        // connection is discarded by the pool
+      }
+    }
+  }
+
+  @Override
+  public HttpResponse onBodyComplete(HttpResponse response, Runnable callback) {
+    if (response.getEntity() == null) {
+      callback.run();
+    } else {
+      response.setEntity(new CompletionEntity(response.getEntity(), callback));
+    }
+    return response;
+  }
+
+  /**
+   * Entity running a callback once its content was read to the end or
+   * closed.
+   */
+  private static final class CompletionEntity extends HttpEntityWrapper {
+    private final Runnable callback;
+    private boolean completed;
+
+    CompletionEntity(HttpEntity entity, Runnable callback) {
+      super(entity);
+      this.callback = callback;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      return new FilterInputStream(super.getContent()) {
+        @Override
+        public int read() throws IOException {
+          int b = super.read();
+          if (b < 0) {
+            CompletionEntity.this.complete();
+          }
+          return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+          int read = super.read(buffer, offset, length);
+          if (read < 0) {
+            CompletionEntity.this.complete();
+          }
+          return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+          CompletionEntity.this.complete();
+          super.close();
+        }
+      };
+    }
+
+    private synchronized void complete() {
+      if (!this.completed) {
+        this.completed = true;
+        this.callback.run();
+      }
+    }
+  }
+}
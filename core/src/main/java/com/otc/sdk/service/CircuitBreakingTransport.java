@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.otc.sdk.core.http.CircuitBreaker;
+import com.otc.sdk.core.http.CircuitBreakerRegistry;
+import com.otc.sdk.core.http.CircuitOpenException;
+
+/**
+ * HttpTransport that protects every endpoint host with a CircuitBreaker.
+ * Requests to a host with an open circuit fail with a CircuitOpenException
+ * before a connection is taken from the pool. Exceptions and 5xx responses
+ * count as failures; cancelled calls are not recorded.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class CircuitBreakingTransport<T> implements HttpTransport<T> {
+  private final HttpTransport<T> delegate;
+  private final CircuitBreakerRegistry registry;
+
+  /**
+   * Constructor to initialize the CircuitBreakingTransport.
+   *
+   * @param delegate The transport sending the requests
+   * @param registry The circuit breakers per host
+   */
+  public CircuitBreakingTransport(HttpTransport<T> delegate, CircuitBreakerRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+  }
+
+  @Override
+  public Call<T> newCall(Request request, byte[] body) throws IOException {
+    CircuitBreaker circuitBreaker = this.registry.get(request.getHost());
+    Call<T> call = this.delegate.newCall(request, body);
+    return new Call<T>() {
+      private volatile boolean cancelled;
+
+      @Override
+      public T execute() throws IOException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+          throw new CircuitOpenException(circuitBreaker.getName());
+        }
+        long start = System.nanoTime();
+        T response;
+        try {
+          response = call.execute();
+        } catch (IOException | RuntimeException e) {
+          if (this.cancelled) {
+            circuitBreaker.releasePermission();
+          } else {
+            circuitBreaker.onResult(System.nanoTime() - start, true);
+          }
+          throw e;
+        }
+        circuitBreaker.onResult(System.nanoTime() - start, getStatusCode(response) >= 500);
+        return response;
+      }
+
+      @Override
+      public void cancel() {
+        this.cancelled = true;
+        call.cancel();
+      }
+    };
+  }
+
+  @Override
+  public int getStatusCode(T response) {
+    return this.delegate.getStatusCode(response);
+  }
+
+  @Override
+  public String getHeader(T response, String name) {
+    return this.delegate.getHeader(response, name);
+  }
+
+  @Override
+  public InputStream getContent(T response) throws IOException {
+    return this.delegate.getContent(response);
+  }
+
+  @Override
+  public void release(T response) {
+    this.delegate.release(response);
+  }
+
+  @Override
+  public T onBodyComplete(T response, Runnable callback) {
+    return this.delegate.onBodyComplete(response, callback);
+  }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.otc.sdk.core.auth.signer.Signer;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+/**
+ * Downloader streams response bodies into a sink instead of reading them
+ * into a String.
+ * Large objects can be downloaded as byte ranges in parallel into a
+ * pre-allocated file, every range request is signed on its own. The ranges
+ * are requested with If-Match and the ETag of the first response, and the
+ * Content-Range of every response is checked, so an object overwritten
+ * during the download fails it instead of mixing two versions.
+ */
+public class Downloader {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Pattern CONTENT_RANGE = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+)");
+
+  /**
+   * Receives the body of a response in chunks. The buffer is reused for the
+   * next chunk after the call returns.
+   */
+  public interface ByteBufferConsumer {
+
+    /**
+     * Consumes a chunk of the body.
+     *
+     * @param buffer The chunk, positioned at its first byte
+     * @throws IOException if the chunk can not be processed
+     */
+    void accept(ByteBuffer buffer) throws IOException;
+  }
+
+  private final OkHttpClient okHttpClient;
+  private final String messageDigestAlgorithm;
+
+  /**
+   * Constructor to initialize the Downloader.
+   *
+   * @param okHttpClient           The client sending the requests
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public Downloader(OkHttpClient okHttpClient, String messageDigestAlgorithm) {
+    this.okHttpClient = okHttpClient;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  /**
+   * Signs and sends a request and writes the response body to a channel.
+   *
+   * @param request The request to send
+   * @param sink    The channel the body is written to, e.g. a FileChannel
+   * @return The number of bytes written
+   * @throws IOException if the request fails or returns an error status
+   */
+  public long download(Request request, WritableByteChannel sink) throws IOException {
+    return this.download(request, buffer -> {
+      while (buffer.hasRemaining()) {
+        sink.write(buffer);
+      }
+    });
+  }
+
+  /**
+   * Signs and sends a request and passes the response body to a consumer in
+   * chunks.
+   *
+   * @param request  The request to send
+   * @param consumer The consumer of the body
+   * @return The number of bytes consumed
+   * @throws IOException if the request fails or returns an error status
+   */
+  public long download(Request request, ByteBufferConsumer consumer) throws IOException {
+    try (Response response = this.execute(request, null, null, null)) {
+      checkStatus(response);
+      return copy(response.body(), consumer);
+    }
+  }
+
+  /**
+   * Downloads an object as byte ranges in parallel into a file. The file is
+   * created or truncated and pre-allocated to the object size. If the server
+   * does not support ranges, the object is streamed into the file.
+   * All ranges after the first one are requested for the version of the
+   * object returned first, identified by its ETag or else its Last-Modified
+   * date.
+   *
+   * @param request     The GET request of the object
+   * @param target      The file to write
+   * @param rangeSize   The size of each range in bytes
+   * @param parallelism The number of ranges downloaded at the same time
+   * @return The size of the object
+   * @throws IOException if a range could not be downloaded, or the object
+   *                     changed during the download
+   */
+  public long downloadRanges(Request request, Path target, long rangeSize, int parallelism) throws IOException {
+    if (rangeSize < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("rangeSize and parallelism must be positive");
+    }
+    try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      long size;
+      String etag;
+      String lastModified;
+      try (Response first = this.execute(request, "bytes=0-" + (rangeSize - 1), null, null)) {
+        if (first.code() == 416) {
+          // range not satisfiable, the object is empty
+          return 0L;
+        }
+        checkStatus(first);
+        if (first.code() != 206) {
+          return copy(first.body(), positionalWriter(channel, 0L));
+        }
+        size = parseContentRange(first.header("Content-Range"))[2];
+        checkRange(first, 0L, Math.min(size, rangeSize) - 1, size);
+        etag = first.header("ETag");
+        lastModified = etag == null ? first.header("Last-Modified") : null;
+        channel.write(ByteBuffer.wrap(new byte[] { 0 }), size - 1);
+        checkLength(copy(first.body(), positionalWriter(channel, 0L)), 0L, Math.min(size, rangeSize) - 1);
+      }
+
+      int rangeCount = (int) ((size + rangeSize - 1) / rangeSize);
+      if (rangeCount <= 1) {
+        return size;
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, rangeCount - 1));
+      try {
+        List<Future<Long>> futures = new ArrayList<>(rangeCount - 1);
+        for (int i = 1; i < rangeCount; ++i) {
+          long start = i * rangeSize;
+          long end = Math.min(size, start + rangeSize) - 1;
+          futures.add(executor.submit(() -> {
+            try (Response response = this.execute(request, "bytes=" + start + "-" + end, etag, lastModified)) {
+              if (response.code() == 412) {
+                throw new IOException("object changed during download, range " + start + "-" + end
+                    + " failed the precondition");
+              }
+              if (response.code() != 206) {
+                throw new IOException("range " + start + "-" + end + " failed with status " + response.code());
+              }
+              checkRange(response, start, end, size);
+              return checkLength(copy(response.body(), positionalWriter(channel, start)), start, end);
+            }
+          }));
+        }
+        for (Future<Long> future : futures) {
+          future.get();
+        }
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        throw cause instanceof IOException ? (IOException) cause : new IOException("range download failed", cause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted during range download");
+      } finally {
+        executor.shutdownNow();
+      }
+      return size;
+    }
+  }
+
+  private Response execute(Request request, String range, String ifMatch, String ifUnmodifiedSince)
+      throws IOException {
+    Request signedRequest = RetryExecutor.copyOf(request);
+    if (range != null) {
+      signedRequest.removeHeader("Range");
+      signedRequest.addHeader("Range", range);
+    }
+    if (ifMatch != null) {
+      signedRequest.removeHeader("If-Match");
+      signedRequest.addHeader("If-Match", ifMatch);
+    }
+    if (ifUnmodifiedSince != null) {
+      signedRequest.removeHeader("If-Unmodified-Since");
+      signedRequest.addHeader("If-Unmodified-Since", ifUnmodifiedSince);
+    }
+    new Signer(this.messageDigestAlgorithm).sign(signedRequest);
+    okhttp3.Request httpRequest = AccessServiceOkhttpImpl.createRequest(signedRequest.getUrl(),
+        signedRequest.getHeaders(), okhttp3.RequestBody.create(new byte[0], null), signedRequest.getMethod());
+    return this.okHttpClient.newCall(httpRequest).execute();
+  }
+
+  private static void checkStatus(Response response) throws IOException {
+    if (!response.isSuccessful()) {
+      throw new IOException("download failed with status " + response.code());
+    }
+  }
+
+  /**
+   * Parses a Content-Range header.
+   *
+   * @return The first byte, the last byte and the total size
+   */
+  private static long[] parseContentRange(String contentRange) throws IOException {
+    Matcher match = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange.trim());
+    if (match == null || !match.matches()) {
+      throw new IOException("invalid Content-Range: " + contentRange);
+    }
+    try {
+      return new long[] { Long.parseLong(match.group(1)), Long.parseLong(match.group(2)),
+          Long.parseLong(match.group(3)) };
+    } catch (NumberFormatException e) {
+      throw new IOException("invalid Content-Range: " + contentRange);
+    }
+  }
+
+  /**
+   * Checks that a response contains the requested range of an object of the
+   * expected size.
+   */
+  private static void checkRange(Response response, long start, long end, long size) throws IOException {
+    String contentRange = response.header("Content-Range");
+    long[] range = parseContentRange(contentRange);
+    if (range[0] != start || range[1] != end || range[2] != size) {
+      throw new IOException("unexpected Content-Range " + contentRange + " for bytes " + start + "-" + end + "/"
+          + size + ", the object changed during download");
+    }
+  }
+
+  private static long checkLength(long length, long start, long end) throws IOException {
+    if (length != end - start + 1) {
+      throw new IOException("range " + start + "-" + end + " returned " + length + " bytes");
+    }
+    return length;
+  }
+
+  /**
+   * Returns a consumer writing to a file channel, starting at a position.
+   */
+  private static ByteBufferConsumer positionalWriter(FileChannel channel, long start) {
+    long[] position = { start };
+    return buffer -> {
+      while (buffer.hasRemaining()) {
+        position[0] += channel.write(buffer, position[0]);
+      }
+    };
+  }
+
+  private static long copy(ResponseBody body, ByteBufferConsumer consumer) throws IOException {
+    if (body == null) {
+      return 0L;
+    }
+    BufferedSource source = body.source();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    long total = 0L;
+    int count;
+    while ((count = source.read(buffer)) != -1) {
+      buffer.flip();
+      consumer.accept(buffer);
+      buffer.clear();
+      total += count;
+    }
+    return total;
+  }
+}
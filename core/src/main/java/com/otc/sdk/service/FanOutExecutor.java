@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.Closeable;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * FanOutExecutor runs the same list operation against many (region, project)
+ * targets concurrently and merges the items of all targets into one iterator
+ * in the order they arrive.
+ * The number of concurrent calls is bounded per endpoint, i.e. per host of the
+ * request URL. Each target is paged with a Paginator. A failing target does
+ * not stop the others, its failure is reported by getFailures once the
+ * iteration is complete.
+ * Targets are queried in the thread pool of the executor, their next pages
+ * are prefetched in the unbounded pool of Paginator. A target blocked on its
+ * prefetch thus never waits for a thread of a fixed-size pool held by other
+ * targets.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class FanOutExecutor<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FanOutExecutor.class);
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "otc-sdk-fanout-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final int QUEUE_CAPACITY = 1024;
+
+  private final HttpTransport<T> transport;
+  private final ExecutorService executor;
+  private final String messageDigestAlgorithm;
+  private final Map<String, Endpoint> endpoints = new HashMap<>();
+  private int maxConcurrencyPerEndpoint = 4;
+  private int pageSize = 0;
+
+  /**
+   * Creates the request of the operation for a target.
+   */
+  public interface RequestFactory {
+    /**
+     * Creates the request of the first page for a target.
+     *
+     * @param target The target
+     * @return The request, it is signed by the FanOutExecutor
+     * @throws Exception if the request can not be created
+     */
+    Request create(Target target) throws Exception;
+  }
+
+  /**
+   * A region and project to run an operation in.
+   */
+  public static final class Target {
+    private final String region;
+    private final String projectId;
+
+    /**
+     * Constructor to initialize the Target.
+     *
+     * @param region    The region, e.g. eu-de
+     * @param projectId The project id
+     */
+    public Target(String region, String projectId) {
+      this.region = region;
+      this.projectId = projectId;
+    }
+
+    public String getRegion() {
+      return this.region;
+    }
+
+    public String getProjectId() {
+      return this.projectId;
+    }
+
+    /**
+     * Fills a URL template with the region and project of the target, e.g.
+     * "https://vpc.{region}.otc.t-systems.com/v1/{project_id}/vpcs".
+     *
+     * @param template The URL template
+     * @return The URL
+     */
+    public String url(String template) {
+      return template.replace("{region}", this.region).replace("{project_id}", this.projectId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Target)) {
+        return false;
+      }
+      Target other = (Target) o;
+      return Objects.equals(this.region, other.region) && Objects.equals(this.projectId, other.projectId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.region, this.projectId);
+    }
+
+    @Override
+    public String toString() {
+      return this.region + "/" + this.projectId;
+    }
+  }
+
+  /**
+   * An item returned for a target.
+   *
+   * @param <E> The item type
+   */
+  public static final class Item<E> {
+    private final Target target;
+    private final E value;
+
+    Item(Target target, E value) {
+      this.target = target;
+      this.value = value;
+    }
+
+    public Target getTarget() {
+      return this.target;
+    }
+
+    public E getValue() {
+      return this.value;
+    }
+  }
+
+  /**
+   * The failure of a target. Items of the target received before the failure
+   * were already returned.
+   */
+  public static final class Failure {
+    private final Target target;
+    private final Exception exception;
+
+    Failure(Target target, Exception exception) {
+      this.target = target;
+      this.exception = exception;
+    }
+
+    public Target getTarget() {
+      return this.target;
+    }
+
+    public Exception getException() {
+      return this.exception;
+    }
+  }
+
+  /**
+   * Tasks and number of running calls of an endpoint.
+   */
+  private static final class Endpoint {
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+    private int active;
+  }
+
+  /**
+   * Constructor to initialize the FanOutExecutor with a shared thread pool and
+   * the default message digest algorithm "SDK-HMAC-SHA256".
+   *
+   * @param transport The transport used to send requests
+   */
+  public FanOutExecutor(HttpTransport<T> transport) {
+    this(transport, DEFAULT_EXECUTOR, "SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the FanOutExecutor.
+   *
+   * @param transport              The transport used to send requests
+   * @param executor               The thread pool the targets are queried in,
+   *                               it may have a fixed size; pages are
+   *                               prefetched in a separate pool
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public FanOutExecutor(HttpTransport<T> transport, ExecutorService executor, String messageDigestAlgorithm) {
+    this.transport = transport;
+    this.executor = executor;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  public int getMaxConcurrencyPerEndpoint() {
+    return this.maxConcurrencyPerEndpoint;
+  }
+
+  /**
+   * Set the maximum number of targets queried concurrently per endpoint.
+   *
+   * @param maxConcurrencyPerEndpoint The maximum number of concurrent calls
+   *                                  per host (default 4)
+   */
+  public void setMaxConcurrencyPerEndpoint(int maxConcurrencyPerEndpoint) {
+    if (maxConcurrencyPerEndpoint < 1) {
+      throw new IllegalArgumentException("maxConcurrencyPerEndpoint must be at least 1");
+    }
+    this.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+  }
+
+  public int getPageSize() {
+    return this.pageSize;
+  }
+
+  /**
+   * Set the page size used for every target, see Paginator.setPageSize.
+   *
+   * @param pageSize Number of items per page, 0 to use the default of the
+   *                 service (default)
+   */
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Runs an operation against all targets. Calls start immediately, the
+   * returned iterator blocks until the next item arrived or all targets are
+   * done.
+   *
+   * @param <E>            The item type
+   * @param targets        The targets
+   * @param requestFactory Creates the request of a target
+   * @param parser         The parser of page responses
+   * @return The iterator over the items of all targets, to be closed if not
+   *         iterated to the end
+   */
+  public <E> Results<E> execute(Collection<Target> targets, RequestFactory requestFactory,
+      Paginator.PageParser<T, E> parser) {
+    Results<E> results = new Results<>(targets.size());
+    for (Target target : targets) {
+      Request request;
+      try {
+        request = requestFactory.create(target);
+      } catch (Exception e) {
+        results.failBeforeStart(target, e);
+        continue;
+      }
+      this.submit(request.getHost(), () -> results.run(target, request, parser));
+    }
+    return results;
+  }
+
+  private void submit(String host, Runnable task) {
+    synchronized (this.endpoints) {
+      Endpoint endpoint = this.endpoints.computeIfAbsent(host, key -> new Endpoint());
+      if (endpoint.active >= this.maxConcurrencyPerEndpoint) {
+        endpoint.pending.add(task);
+        return;
+      }
+      endpoint.active++;
+    }
+    this.executor.execute(() -> this.runAndNext(host, task));
+  }
+
+  private void runAndNext(String host, Runnable task) {
+    Runnable next = task;
+    while (next != null) {
+      boolean completed = false;
+      try {
+        next.run();
+        completed = true;
+      } catch (RuntimeException e) {
+        LOGGER.warn("fan-out task for {} failed: {}", host, e.getMessage());
+        completed = true;
+      } finally {
+        synchronized (this.endpoints) {
+          Endpoint endpoint = this.endpoints.get(host);
+          next = endpoint.pending.poll();
+          if (next == null) {
+            endpoint.active--;
+            if (endpoint.active == 0) {
+              this.endpoints.remove(host);
+            }
+          }
+        }
+        if (!completed && next != null) {
+          // an Error ends this thread, the pending task keeps the slot of the
+          // endpoint and runs in another one
+          Runnable pending = next;
+          this.executor.execute(() -> this.runAndNext(host, pending));
+        }
+      }
+    }
+  }
+
+  /**
+   * Iterator over the items of all targets of one execution.
+   *
+   * @param <E> The item type
+   */
+  public final class Results<E> implements Iterator<Item<E>>, Closeable {
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+    private final List<Closeable> running = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger remaining;
+    private Item<E> next;
+    private volatile boolean closed;
+
+    private Results(int targets) {
+      this.remaining = new AtomicInteger(targets);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (this.next == null && !this.closed) {
+        // all items of a target are queued before it is counted as done, so
+        // once no target remains an empty queue means the iteration is over
+        boolean done = this.remaining.get() == 0;
+        Object element;
+        try {
+          element = done ? this.queue.poll() : this.queue.poll(100L, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          this.close();
+          throw new UncheckedIOException(new InterruptedIOException("interrupted while waiting for results"));
+        }
+        if (element instanceof Item) {
+          @SuppressWarnings("unchecked")
+          Item<E> item = (Item<E>) element;
+          this.next = item;
+        } else if (element == null && done) {
+          break;
+        }
+      }
+      return this.next != null;
+    }
+
+    @Override
+    public Item<E> next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Item<E> item = this.next;
+      this.next = null;
+      return item;
+    }
+
+    /**
+     * Returns the failed targets. The list is complete once hasNext returned
+     * false.
+     *
+     * @return The failures
+     */
+    public List<Failure> getFailures() {
+      synchronized (this.failures) {
+        return new ArrayList<>(this.failures);
+      }
+    }
+
+    /**
+     * Stops the iteration. Targets not yet started are skipped and running
+     * page requests are cancelled.
+     */
+    @Override
+    public void close() {
+      this.closed = true;
+      synchronized (this.running) {
+        for (Closeable pages : this.running) {
+          try {
+            pages.close();
+          } catch (Exception e) {
+            LOGGER.debug("closing pages failed: {}", e.getMessage());
+          }
+        }
+      }
+      this.queue.clear();
+    }
+
+    private void run(Target target, Request request, Paginator.PageParser<T, E> parser) {
+      Exception failure = null;
+      try {
+        if (this.closed) {
+          return;
+        }
+        // not the executor of the targets, which may be fully used by tasks
+        // waiting for their prefetched pages
+        Paginator<T> paginator = new Paginator<>(transport, Paginator.DEFAULT_EXECUTOR, messageDigestAlgorithm);
+        paginator.setPageSize(pageSize);
+        try (Paginator<T>.PageIterator<E> pages = paginator.iterate(request, parser)) {
+          this.running.add(pages);
+          try {
+            while (!this.closed && pages.hasNext()) {
+              this.put(new Item<>(target, pages.next()));
+            }
+          } finally {
+            this.running.remove(pages);
+          }
+        } catch (Exception e) {
+          failure = e;
+        }
+      } finally {
+        this.complete(target, failure);
+      }
+    }
+
+    private void failBeforeStart(Target target, Exception failure) {
+      this.failures.add(new Failure(target, failure));
+      this.remaining.decrementAndGet();
+    }
+
+    private void complete(Target target, Exception failure) {
+      if (failure != null && !this.closed) {
+        LOGGER.debug("fan-out to {} failed: {}", target, failure.getMessage());
+        this.failures.add(new Failure(target, failure));
+      }
+      this.remaining.decrementAndGet();
+      // only wakes up a waiting caller, which polls anyway if the queue is full
+      this.queue.offer(target);
+    }
+
+    private void put(Item<E> item) throws InterruptedIOException {
+      try {
+        while (!this.closed && !this.queue.offer(item, 100L, TimeUnit.MILLISECONDS)) {
+          // wait until the caller took items or closed the results
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while queueing results");
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * OkHttp request body sending a range of a file with a fixed length.
+ * The range is transferred from the file channel to the connection with
+ * FileChannel.transferTo and can be sent again on retry.
+ */
+class FileRangeBody extends RequestBody {
+  private final Path file;
+  private final long position;
+  private final long length;
+
+  /**
+   * Constructor to initialize the body.
+   *
+   * @param file     The file
+   * @param position Offset of the first byte to send
+   * @param length   Number of bytes to send
+   */
+  FileRangeBody(Path file, long position, long length) {
+    this.file = file;
+    this.position = position;
+    this.length = length;
+  }
+
+  @Override
+  public MediaType contentType() {
+    return null;
+  }
+
+  @Override
+  public long contentLength() {
+    return this.length;
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+      sink.flush();
+      FileUploader.transferFully(channel, this.position, this.length, sink);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map.Entry;
+
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.FileEntity;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.util.FileHashCache;
+import com.otc.sdk.core.util.FileHashUtils;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+/**
+ * FileUploader signs requests with a file as body.
+ * The file is hashed once through a memory-mapped view and the hash is sent in
+ * the x-sdk-content-sha256 header. The file content is then streamed with a
+ * fixed Content-Length, it is never loaded into memory.
+ * Hashes are kept in a FileHashCache, by default FileHashCache.getDefault(),
+ * so uploading an unchanged file again skips hashing. The default cache is
+ * only persisted if the system property otc.sdk.hashCache is set.
+ */
+public class FileUploader {
+  private final String messageDigestAlgorithm;
+  private final FileHashCache hashCache;
+
+  /**
+   * Constructor to initialize the FileUploader with the default message digest
+   * algorithm "SDK-HMAC-SHA256" and the default hash cache.
+   */
+  public FileUploader() {
+    this("SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the FileUploader with the default hash cache.
+   *
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public FileUploader(String messageDigestAlgorithm) {
+    this(messageDigestAlgorithm, FileHashCache.getDefault());
+  }
+
+  /**
+   * Constructor to initialize the FileUploader.
+   *
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   * @param hashCache              Cache for file hashes, can be null
+   */
+  public FileUploader(String messageDigestAlgorithm, FileHashCache hashCache) {
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+    this.hashCache = hashCache;
+  }
+
+  /**
+   * Returns the content hash of a file, taken from the cache if possible.
+   *
+   * @param file The file
+   * @return The hash as a hexadecimal string
+   * @throws IOException if the file can not be read
+   */
+  public String contentHash(File file) throws IOException {
+    if (this.hashCache != null) {
+      return this.hashCache.getHashHex(file.toPath(), this.messageDigestAlgorithm);
+    }
+    return FileHashUtils.hashHex(file.toPath(), this.messageDigestAlgorithm);
+  }
+
+  /**
+   * Signs a request with the file as body. The request passed in is not
+   * modified.
+   *
+   * @param request The request to sign, its body is ignored
+   * @param file    The file to upload
+   * @return The signed request
+   * @throws IOException if the file can not be read
+   */
+  public Request signRequest(Request request, File file) throws IOException {
+    Request signedRequest = RetryExecutor.copyOf(request);
+    signedRequest.removeHeader(Signer.X_SDK_CONTENT_SHA256);
+    signedRequest.addHeader(Signer.X_SDK_CONTENT_SHA256, this.contentHash(file));
+    new Signer(this.messageDigestAlgorithm).sign(signedRequest);
+    return signedRequest;
+  }
+
+  /**
+   * Signs a request with the file as body for Apache HttpClient. The file is
+   * sent with a FileEntity.
+   *
+   * @param request The request to sign, its body is ignored
+   * @param file    The file to upload
+   * @return The signed HttpRequestBase
+   * @throws IOException if the file can not be read
+   */
+  public HttpRequestBase sign(Request request, File file) throws IOException {
+    Request signedRequest = this.signRequest(request, file);
+    HttpRequestBase httpRequest = AccessServiceImpl.createRequest(signedRequest.getUrl(),
+        new FileEntity(file, ContentType.DEFAULT_BINARY), signedRequest.getMethod());
+    AccessServiceImpl.addHeaders(httpRequest, signedRequest.getHeaders());
+    return httpRequest;
+  }
+
+  /**
+   * Signs a request with the file as body for OkHttp. The file is sent with a
+   * file request body.
+   *
+   * @param request The request to sign, its body is ignored
+   * @param file    The file to upload
+   * @return The signed okhttp3.Request
+   * @throws IOException if the file can not be read
+   */
+  public okhttp3.Request signOkhttp(Request request, File file) throws IOException {
+    Request signedRequest = this.signRequest(request, file);
+    return AccessServiceOkhttpImpl.createRequest(signedRequest.getUrl(), signedRequest.getHeaders(),
+        RequestBody.create(file, MediaType.parse("")), signedRequest.getMethod());
+  }
+
+  /**
+   * Signs a request and sends it with the file as body over an
+   * HttpURLConnection. The connection uses fixed-length streaming mode and the
+   * file is written with FileChannel.transferTo.
+   * The caller reads the response from the returned connection.
+   *
+   * @param request    The request to sign, its body is ignored
+   * @param file       The file to upload
+   * @param connection An unconnected connection to the URL of the request
+   * @return The connection, with the request sent
+   * @throws IOException if the file can not be read or sending fails
+   */
+  public HttpURLConnection send(Request request, File file, HttpURLConnection connection) throws IOException {
+    Request signedRequest = this.signRequest(request, file);
+    connection.setRequestMethod(signedRequest.getMethod().name());
+    connection.setDoOutput(true);
+    connection.setDoInput(true);
+    connection.setFixedLengthStreamingMode(file.length());
+    for (Entry<String, String> header : signedRequest.getHeaders().entrySet()) {
+      if (!"Content-Length".equalsIgnoreCase(header.getKey())) {
+        connection.setRequestProperty(header.getKey(), header.getValue());
+      }
+    }
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        OutputStream out = connection.getOutputStream()) {
+      transferFully(channel, 0L, channel.size(), Channels.newChannel(out));
+    }
+    return connection;
+  }
+
+  /**
+   * Transfers a range of a file to a channel, looping until all bytes are
+   * written.
+   *
+   * @param channel  The file channel
+   * @param position Offset of the first byte
+   * @param count    Number of bytes to transfer
+   * @param target   The target channel
+   * @throws IOException if reading or writing fails
+   */
+  static void transferFully(FileChannel channel, long position, long count, WritableByteChannel target)
+      throws IOException {
+    long end = position + count;
+    while (position < end) {
+      long written = channel.transferTo(position, end - position, target);
+      if (written <= 0) {
+        throw new IOException("unexpected end of file");
+      }
+      position += written;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.http.HedgingPolicy;
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.http.RetryBudget;
+
+/**
+ * HedgingExecutor signs and sends idempotent requests and, if no response
+ * arrived within the hedge delay of the HedgingPolicy, sends a second,
+ * separately signed request. The first response is returned and the other
+ * request is cancelled.
+ * Requests that can not be hedged are sent once.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class HedgingExecutor<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(HedgingExecutor.class);
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "otc-sdk-hedging-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final HttpTransport<T> transport;
+  private final HedgingPolicy hedgingPolicy;
+  private final ExecutorService executor;
+  private final String messageDigestAlgorithm;
+
+  /**
+   * Constructor to initialize the HedgingExecutor with a shared thread pool and
+   * the default message digest algorithm "SDK-HMAC-SHA256".
+   *
+   * @param transport     The transport used to send requests
+   * @param hedgingPolicy The hedging policy
+   */
+  public HedgingExecutor(HttpTransport<T> transport, HedgingPolicy hedgingPolicy) {
+    this(transport, hedgingPolicy, DEFAULT_EXECUTOR, "SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the HedgingExecutor.
+   *
+   * @param transport              The transport used to send requests
+   * @param hedgingPolicy          The hedging policy
+   * @param executor               The thread pool the requests are sent from
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public HedgingExecutor(HttpTransport<T> transport, HedgingPolicy hedgingPolicy, ExecutorService executor,
+      String messageDigestAlgorithm) {
+    this.transport = transport;
+    this.hedgingPolicy = hedgingPolicy;
+    this.executor = executor;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  /**
+   * Signs and sends a request, hedging it if it is slow. The request passed in
+   * is not modified.
+   *
+   * @param request The request to send
+   * @return The first response received
+   * @throws IOException if all requests sent failed
+   */
+  public T execute(Request request) throws IOException {
+    Request primaryRequest = RetryExecutor.copyOf(request);
+    HttpMethodName httpMethod = primaryRequest.getMethod();
+    Signer signer = new Signer(this.messageDigestAlgorithm);
+    String contentHash = signer.contentHash(primaryRequest);
+    signer.resign(primaryRequest, contentHash);
+    if (!this.hedgingPolicy.isHedgeable(httpMethod)) {
+      return this.transport.execute(primaryRequest, null);
+    }
+
+    RetryBudget budget = this.hedgingPolicy.getHedgeBudget();
+    if (budget != null) {
+      budget.onRequest();
+    }
+
+    HttpTransport.Call<T> primaryCall = this.transport.newCall(primaryRequest, null);
+    CompletableFuture<T> primary = this.submit(primaryCall);
+    try {
+      return primary.get(this.hedgingPolicy.getHedgeDelayMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      if (budget != null && !budget.tryAcquireRetry()) {
+        return this.await(primary, primaryCall);
+      }
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      primaryCall.cancel();
+      primary.thenAccept(this.transport::release);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for response");
+    }
+
+    // the hedged request carries its own X-Sdk-Date and signature
+    Request hedgeRequest = RetryExecutor.copyOf(request);
+    signer.resign(hedgeRequest, contentHash);
+    HttpTransport.Call<T> hedgeCall = this.transport.newCall(hedgeRequest, null);
+    LOGGER.debug("hedging {} {}", httpMethod, hedgeRequest.getPath());
+    CompletableFuture<T> hedge = this.submit(hedgeCall);
+
+    CompletableFuture<T> winner = new CompletableFuture<>();
+    this.race(primary, hedge, hedgeCall, winner);
+    this.race(hedge, primary, primaryCall, winner);
+    return this.await(winner, primaryCall, hedgeCall);
+  }
+
+  /**
+   * Sends a call in the thread pool and records its latency.
+   */
+  private CompletableFuture<T> submit(HttpTransport.Call<T> call) {
+    return CompletableFuture.supplyAsync(() -> {
+      long start = System.nanoTime();
+      try {
+        T response = call.execute();
+        this.hedgingPolicy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    }, this.executor);
+  }
+
+  /**
+   * Completes the winner with the response of a call. The other call is
+   * cancelled, a response arriving after the winner is released.
+   */
+  private void race(CompletableFuture<T> own, CompletableFuture<T> other, HttpTransport.Call<T> otherCall,
+      CompletableFuture<T> winner) {
+    own.whenComplete((response, error) -> {
+      if (error == null) {
+        if (winner.complete(response)) {
+          otherCall.cancel();
+        } else {
+          this.transport.release(response);
+        }
+      } else if (other.isCompletedExceptionally()) {
+        winner.completeExceptionally(error);
+      }
+    });
+  }
+
+  /**
+   * Waits for the response of a call. If the thread is interrupted, the
+   * calls still running are cancelled and a response arriving anyway is
+   * released.
+   */
+  @SafeVarargs
+  private final T await(CompletableFuture<T> future, HttpTransport.Call<T>... calls) throws IOException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      for (HttpTransport.Call<T> call : calls) {
+        call.cancel();
+      }
+      future.thenAccept(this.transport::release);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for response");
+    }
+  }
+
+  private static IOException unwrap(Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof IOException) {
+      return (IOException) cause;
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    return new IOException(cause);
+  }
+}
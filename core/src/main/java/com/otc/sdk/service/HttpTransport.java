@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sends signed requests with a concrete HTTP client.
+ * Implementations exist for Apache HttpClient and OkHttp, so that request
+ * execution features like retries work the same way for both clients.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public interface HttpTransport<T> {
+
+  /**
+   * Prepares a signed request for sending. The returned call can be executed
+   * in one thread and cancelled from another.
+   *
+   * @param request The signed request, its headers are sent as they are
+   * @param body    The request body, sent for POST, PUT and PATCH requests
+   * @return The prepared call
+   * @throws IOException if the request can not be created
+   */
+  Call<T> newCall(Request request, byte[] body) throws IOException;
+
+  /**
+   * Sends a signed request.
+   *
+   * @param request The signed request, its headers are sent as they are
+   * @param body    The request body, sent for POST, PUT and PATCH requests
+   * @return The response of the HTTP client
+   * @throws IOException if the request could not be sent or no response was
+   *                     received
+   */
+  default T execute(Request request, byte[] body) throws IOException {
+    return this.newCall(request, body).execute();
+  }
+
+  /**
+   * Returns the HTTP status code of a response.
+   *
+   * @param response The response
+   * @return The status code
+   */
+  int getStatusCode(T response);
+
+  /**
+   * Returns the value of a response header.
+   *
+   * @param response The response
+   * @param name     The name of the header
+   * @return The header value, or null if the header is not present
+   */
+  String getHeader(T response, String name);
+
+  /**
+   * Returns the body of a response as stream. Closing the stream does not
+   * release the response.
+   *
+   * @param response The response
+   * @return The body, empty if the response has no body
+   * @throws IOException if the body can not be read
+   */
+  InputStream getContent(T response) throws IOException;
+
+  /**
+   * Releases a response that will not be handed to the caller, so that its
+   * connection can go back to the pool.
+   *
+   * @param response The response to release
+   */
+  void release(T response);
+
+  /**
+   * Registers a callback run once when the body of a response was read to
+   * the end or closed. Transports not supporting this return the response
+   * without running the callback.
+   *
+   * @param response The response
+   * @param callback The callback, it must not throw
+   * @return The response to hand to the caller, it may wrap the response
+   *         passed in
+   */
+  default T onBodyComplete(T response, Runnable callback) {
+    return response;
+  }
+
+  /**
+   * A request prepared for sending.
+   *
+   * @param <T> The response type of the HTTP client
+   */
+  interface Call<T> {
+
+    /**
+     * Sends the request and waits for the response.
+     *
+     * @return The response of the HTTP client
+     * @throws IOException if the request failed or was cancelled
+     */
+    T execute() throws IOException;
+
+    /**
+     * Cancels the request. A blocked execute call fails with an IOException.
+     */
+    void cancel();
+  }
+}
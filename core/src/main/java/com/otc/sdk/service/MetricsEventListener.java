@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+import com.otc.sdk.core.metrics.RequestMetrics;
+import com.otc.sdk.core.metrics.RequestPhase;
+
+/**
+ * OkHttp EventListener recording the phases of one call in RequestMetrics.
+ * OkHttp creates a listener per call, so no synchronization is needed.
+ */
+final class MetricsEventListener extends EventListener {
+  private final RequestMetrics metrics;
+  private long callStart;
+  private long connectStart;
+  private long tlsStart;
+  private boolean acquired;
+  private long requestStart;
+  private long responseTime;
+
+  /**
+   * Constructor to initialize the MetricsEventListener.
+   *
+   * @param metrics The metrics the phases are recorded in
+   */
+  MetricsEventListener(RequestMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void callStart(Call call) {
+    this.callStart = System.nanoTime();
+  }
+
+  @Override
+  public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+    long now = System.nanoTime();
+    this.acquired(now);
+    this.connectStart = now;
+    this.tlsStart = 0L;
+  }
+
+  @Override
+  public void secureConnectStart(Call call) {
+    long now = System.nanoTime();
+    this.metrics.recordPhase(RequestPhase.CONNECT, now - this.connectStart);
+    this.tlsStart = now;
+  }
+
+  @Override
+  public void secureConnectEnd(Call call, Handshake handshake) {
+    this.metrics.recordPhase(RequestPhase.TLS_HANDSHAKE, System.nanoTime() - this.tlsStart);
+  }
+
+  @Override
+  public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+    if (this.tlsStart == 0L) {
+      this.metrics.recordPhase(RequestPhase.CONNECT, System.nanoTime() - this.connectStart);
+    }
+  }
+
+  @Override
+  public void connectionAcquired(Call call, Connection connection) {
+    this.acquired(System.nanoTime());
+  }
+
+  @Override
+  public void requestHeadersStart(Call call) {
+    this.requestStart = System.nanoTime();
+  }
+
+  @Override
+  public void responseHeadersStart(Call call) {
+    this.metrics.recordPhase(RequestPhase.TIME_TO_FIRST_BYTE, System.nanoTime() - this.requestStart);
+  }
+
+  @Override
+  public void responseHeadersEnd(Call call, Response response) {
+    this.responseTime = System.nanoTime();
+  }
+
+  @Override
+  public void responseBodyEnd(Call call, long byteCount) {
+    this.metrics.recordPhase(RequestPhase.READ_BODY, System.nanoTime() - this.responseTime);
+  }
+
+  private void acquired(long now) {
+    if (!this.acquired) {
+      this.acquired = true;
+      this.metrics.recordPhase(RequestPhase.CONNECTION_ACQUIRE, now - this.callStart);
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.http.RetryPolicy;
+import com.otc.sdk.core.util.FileHashCache;
+import com.otc.sdk.core.util.FileHashUtils;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * MultipartUploader uploads a large file as parts sent in parallel.
+ * Every part is hashed and signed on its own with x-sdk-content-sha256 and
+ * streamed from the file over the connection pool of an OkHttpClient.
+ * Failed parts are retried by a RetryExecutor according to a RetryPolicy.
+ * Completed parts are recorded in a checkpoint file together with the upload
+ * id, so an interrupted upload of the same file to the same multipart upload
+ * resumes with the missing parts. The upload id of a checkpoint can be read
+ * with getCheckpointUploadId after a crash.
+ * The requests for initiating and completing the upload are service specific
+ * and are left to the caller, the parts returned contain the ETags needed
+ * to complete it.
+ */
+public class MultipartUploader {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultipartUploader.class);
+
+  /**
+   * Creates the request for uploading one part, e.g. by adding the part
+   * number and upload id as query parameters.
+   */
+  public interface PartRequestFactory {
+
+    /**
+     * Creates the unsigned request for a part. Its body is ignored.
+     *
+     * @param partNumber The part number, starting at 1
+     * @param offset     Offset of the part in the file
+     * @param length     Length of the part
+     * @return The request for the part
+     * @throws IOException if the request can not be created
+     */
+    Request createPartRequest(int partNumber, long offset, long length) throws IOException;
+  }
+
+  /**
+   * An uploaded part.
+   */
+  public static class UploadPart {
+    private final int partNumber;
+    private final String contentHash;
+    private final String etag;
+
+    UploadPart(int partNumber, String contentHash, String etag) {
+      this.partNumber = partNumber;
+      this.contentHash = contentHash;
+      this.etag = etag;
+    }
+
+    public int getPartNumber() {
+      return this.partNumber;
+    }
+
+    public String getContentHash() {
+      return this.contentHash;
+    }
+
+    /**
+     * Gets the ETag header returned for the part.
+     *
+     * @return The ETag, or an empty string if none was returned
+     */
+    public String getEtag() {
+      return this.etag;
+    }
+  }
+
+  private final OkHttpClient okHttpClient;
+  private final RetryPolicy retryPolicy;
+  private final String messageDigestAlgorithm;
+  private final FileHashCache hashCache;
+  private long partSize = 16L * 1024 * 1024;
+  private int parallelism = 4;
+
+  /**
+   * Constructor to initialize the MultipartUploader with the default hash
+   * cache.
+   *
+   * @param okHttpClient           The client sending the parts
+   * @param retryPolicy            The retry policy for single parts
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public MultipartUploader(OkHttpClient okHttpClient, RetryPolicy retryPolicy, String messageDigestAlgorithm) {
+    this(okHttpClient, retryPolicy, messageDigestAlgorithm, FileHashCache.getDefault());
+  }
+
+  /**
+   * Constructor to initialize the MultipartUploader.
+   *
+   * @param okHttpClient           The client sending the parts
+   * @param retryPolicy            The retry policy for single parts
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   * @param hashCache              Cache for the hashes of the parts, can be
+   *                               null
+   */
+  public MultipartUploader(OkHttpClient okHttpClient, RetryPolicy retryPolicy, String messageDigestAlgorithm,
+      FileHashCache hashCache) {
+    this.okHttpClient = okHttpClient;
+    this.retryPolicy = retryPolicy;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+    this.hashCache = hashCache;
+  }
+
+  /**
+   * Returns the upload id recorded in a checkpoint, e.g. to resume the upload
+   * after the process was restarted.
+   *
+   * @param checkpointFile The checkpoint file
+   * @return The upload id, or null if there is no checkpoint
+   * @throws IOException if the checkpoint can not be read
+   */
+  public static String getCheckpointUploadId(Path checkpointFile) throws IOException {
+    return UploadCheckpoint.readUploadId(checkpointFile);
+  }
+
+  /**
+   * Uploads the parts of a file that are not recorded in the checkpoint yet.
+   * A checkpoint of another upload id is discarded, its parts belong to
+   * another multipart upload.
+   *
+   * @param file           The file to upload
+   * @param uploadId       The id of the multipart upload the factory sends
+   *                       the parts to
+   * @param checkpointFile The file recording the progress of the upload
+   * @param factory        Creates the request of each part
+   * @return All parts of the file, ordered by part number
+   * @throws IOException if a part could not be uploaded, the parts uploaded
+   *                     so far are kept in the checkpoint
+   */
+  public List<UploadPart> upload(File file, String uploadId, Path checkpointFile, PartRequestFactory factory)
+      throws IOException {
+    if (uploadId == null || uploadId.isEmpty()) {
+      throw new IllegalArgumentException("uploadId must not be empty");
+    }
+    Path path = file.toPath();
+    long size = file.length();
+    UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointFile, path, uploadId, this.partSize);
+    int partCount = (int) Math.max(1L, (size + this.partSize - 1) / this.partSize);
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, partCount));
+    List<Future<UploadPart>> futures = new ArrayList<>(partCount);
+    try {
+      for (int partNumber = 1; partNumber <= partCount; ++partNumber) {
+        int number = partNumber;
+        long offset = (partNumber - 1) * this.partSize;
+        long length = Math.min(this.partSize, size - offset);
+        String completed = checkpoint.getPart(partNumber);
+        if (completed != null) {
+          String[] entry = completed.split(",", 2);
+          futures.add(CompletableFuture.completedFuture(new UploadPart(number, entry[0],
+              entry.length > 1 ? entry[1] : "")));
+          continue;
+        }
+        futures.add(executor.submit(() -> {
+          Request request = factory.createPartRequest(number, offset, length);
+          return this.uploadPart(path, request, number, offset, length, checkpoint);
+        }));
+      }
+
+      List<UploadPart> parts = new ArrayList<>(partCount);
+      for (Future<UploadPart> future : futures) {
+        parts.add(future.get());
+      }
+      return parts;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException("part upload failed", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted during multipart upload");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private UploadPart uploadPart(Path file, Request request, int partNumber, long offset, long length,
+      UploadCheckpoint checkpoint) throws IOException {
+    String contentHash = this.hashCache == null
+        ? FileHashUtils.hashHex(file, offset, length, this.messageDigestAlgorithm)
+        : this.hashCache.getHashHex(file, offset, length, this.messageDigestAlgorithm);
+    Request partRequest = RetryExecutor.copyOf(request);
+    partRequest.setBody("");
+    partRequest.removeHeader(Signer.X_SDK_CONTENT_SHA256);
+    partRequest.addHeader(Signer.X_SDK_CONTENT_SHA256, contentHash);
+
+    PartTransport transport = new PartTransport(this.okHttpClient, file, offset, length);
+    RetryExecutor<Response> executor = new RetryExecutor<>(transport, this.retryPolicy, this.messageDigestAlgorithm);
+    try (Response response = executor.execute(partRequest)) {
+      if (!response.isSuccessful()) {
+        throw new IOException("part " + partNumber + " failed with status " + response.code());
+      }
+      String etag = response.header("ETag");
+      checkpoint.completePart(partNumber, contentHash, etag);
+      LOGGER.debug("uploaded part {}", partNumber);
+      return new UploadPart(partNumber, contentHash, etag == null ? "" : etag);
+    }
+  }
+
+  /**
+   * Transport sending a range of a file as body of every call. The body passed
+   * by the RetryExecutor is ignored, the content hash of the range is taken
+   * from the x-sdk-content-sha256 header.
+   */
+  private static final class PartTransport extends OkHttpTransport {
+    private final OkHttpClient okHttpClient;
+    private final Path file;
+    private final long offset;
+    private final long length;
+
+    PartTransport(OkHttpClient okHttpClient, Path file, long offset, long length) {
+      super(okHttpClient);
+      this.okHttpClient = okHttpClient;
+      this.file = file;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public Call<Response> newCall(Request request, byte[] body) throws IOException {
+      okhttp3.Call call = this.okHttpClient.newCall(AccessServiceOkhttpImpl.createRequest(request.getUrl(),
+          request.getHeaders(), new FileRangeBody(this.file, this.offset, this.length), request.getMethod()));
+      return new Call<Response>() {
+        @Override
+        public Response execute() throws IOException {
+          return call.execute();
+        }
+
+        @Override
+        public void cancel() {
+          call.cancel();
+        }
+      };
+    }
+  }
+
+  public long getPartSize() {
+    return this.partSize;
+  }
+
+  /**
+   * Sets the size of the parts. Changing it invalidates existing checkpoints.
+   *
+   * @param partSize The part size in bytes
+   */
+  public void setPartSize(long partSize) {
+    if (partSize < 1) {
+      throw new IllegalArgumentException("partSize must be positive");
+    }
+    this.partSize = partSize;
+  }
+
+  public int getParallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Sets the number of parts uploaded at the same time.
+   *
+   * @param parallelism The number of parallel uploads
+   */
+  public void setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    this.parallelism = parallelism;
+  }
+}
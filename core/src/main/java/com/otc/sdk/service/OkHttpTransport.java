@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import com.otc.sdk.core.metrics.RequestMetrics;
+
+/**
+ * HttpTransport that sends requests with an OkHttpClient.
+ */
+public class OkHttpTransport implements HttpTransport<Response> {
+  private final OkHttpClient okHttpClient;
+  private volatile OkHttpClient callClient;
+  private volatile RequestMetrics requestMetrics;
+
+  /**
+   * Constructor to initialize the transport with an OkHttpClient, e.g. one
+   * created by SSLCipherSuiteUtil.createOkHttpClient.
+   *
+   * @param okHttpClient The client used to send requests
+   */
+  public OkHttpTransport(OkHttpClient okHttpClient) {
+    this.okHttpClient = okHttpClient;
+    this.callClient = okHttpClient;
+  }
+
+  public RequestMetrics getRequestMetrics() {
+    return this.requestMetrics;
+  }
+
+  /**
+   * Set the metrics the phases and outcomes of requests are recorded in. The
+   * phases are recorded by an OkHttp EventListener, which replaces the event
+   * listener of the client for calls of this transport. The client shares its
+   * connection pool with the client passed to the constructor.
+   *
+   * @param requestMetrics The metrics, null to record nothing (default)
+   */
+  public void setRequestMetrics(RequestMetrics requestMetrics) {
+    this.requestMetrics = requestMetrics;
+    this.callClient = requestMetrics == null ? this.okHttpClient
+        : this.okHttpClient.newBuilder().eventListenerFactory(call -> new MetricsEventListener(requestMetrics))
+            .build();
+  }
+
+  @Override
+  public Call<Response> newCall(Request request, byte[] body) throws IOException {
+    RequestBody entity = RequestBody.create(body == null ? new byte[0] : body, MediaType.parse(""));
+    okhttp3.Request httpRequest = AccessServiceOkhttpImpl.createRequest(request.getUrl(), request.getHeaders(),
+        entity, request.getMethod());
+    okhttp3.Call call = this.callClient.newCall(httpRequest);
+    RequestMetrics metrics = this.requestMetrics;
+    return new Call<Response>() {
+      @Override
+      public Response execute() throws IOException {
+        if (metrics == null) {
+          return call.execute();
+        }
+        Response response;
+        try {
+          response = call.execute();
+        } catch (IOException | RuntimeException e) {
+          metrics.recordFailure();
+          throw e;
+        }
+        metrics.recordResponse(response.code());
+        return response;
+      }
+
+      @Override
+      public void cancel() {
+        call.cancel();
+      }
+    };
+  }
+
+  @Override
+  public int getStatusCode(Response response) {
+    return response.code();
+  }
+
+  @Override
+  public String getHeader(Response response, String name) {
+    return response.header(name);
+  }
+
+  @Override
+  public InputStream getContent(Response response) {
+    ResponseBody body = response.body();
+    return body == null ? new ByteArrayInputStream(new byte[0]) : body.byteStream();
+  }
+
+  @Override
+  public void release(Response response) {
+    response.close();
+  }
+
+  @Override
+  public Response onBodyComplete(Response response, Runnable callback) {
+    ResponseBody body = response.body();
+    if (body == null) {
+      callback.run();
+      return response;
+    }
+    ForwardingSource source = new ForwardingSource(body.source()) {
+      private boolean completed;
+
+      @Override
+      public long read(Buffer sink, long byteCount) throws IOException {
+        long read = super.read(sink, byteCount);
+        if (read < 0) {
+          this.complete();
+        }
+        return read;
+      }
+
+      @Override
+      public void close() throws IOException {
+        this.complete();
+        super.close();
+      }
+
+      private synchronized void complete() {
+        if (!this.completed) {
+          this.completed = true;
+          callback.run();
+        }
+      }
+    };
+    return response.newBuilder()
+        .body(ResponseBody.create(Okio.buffer(source), body.contentType(), body.contentLength())).build();
+  }
+}
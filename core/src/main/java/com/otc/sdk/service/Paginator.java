@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.otc.sdk.core.auth.signer.Signer;
+
+/**
+ * Paginator iterates over the items of a list API that pages with the marker
+ * and limit query parameters.
+ * Pages are fetched lazily. As soon as a page is parsed, the request for the
+ * next page is signed and sent in the background while the caller processes
+ * the items of the current page. Closing the iterator cancels the pending
+ * request.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class Paginator<T> {
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  // package-private, FanOutExecutor prefetches pages in this pool
+  static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "otc-sdk-paginator-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final HttpTransport<T> transport;
+  private final ExecutorService executor;
+  private final String messageDigestAlgorithm;
+  private String markerParam = "marker";
+  private String limitParam = "limit";
+  private int pageSize = 0;
+
+  /**
+   * Extracts the items and the marker of the next page from a response.
+   *
+   * @param <T> The response type of the HTTP client
+   * @param <E> The item type
+   */
+  public interface PageParser<T, E> {
+    /**
+     * Parses a successful response. The response is released by the
+     * Paginator afterwards.
+     *
+     * @param response The response of a page request
+     * @return The page
+     * @throws IOException if the response can not be read
+     */
+    Page<E> parse(T response) throws IOException;
+  }
+
+  /**
+   * A page of items.
+   *
+   * @param <E> The item type
+   */
+  public static class Page<E> {
+    private final List<E> items;
+    private final String nextMarker;
+
+    /**
+     * Constructor to initialize the Page.
+     *
+     * @param items      The items of the page
+     * @param nextMarker The marker of the next page, null if this is the last
+     *                   page
+     */
+    public Page(List<E> items, String nextMarker) {
+      this.items = items;
+      this.nextMarker = nextMarker;
+    }
+
+    public List<E> getItems() {
+      return this.items;
+    }
+
+    public String getNextMarker() {
+      return this.nextMarker;
+    }
+  }
+
+  /**
+   * Constructor to initialize the Paginator with a shared thread pool and the
+   * default message digest algorithm "SDK-HMAC-SHA256".
+   *
+   * @param transport The transport used to send requests
+   */
+  public Paginator(HttpTransport<T> transport) {
+    this(transport, DEFAULT_EXECUTOR, "SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the Paginator.
+   *
+   * @param transport              The transport used to send requests
+   * @param executor               The thread pool pages are fetched from
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public Paginator(HttpTransport<T> transport, ExecutorService executor, String messageDigestAlgorithm) {
+    this.transport = transport;
+    this.executor = executor;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  public String getMarkerParam() {
+    return this.markerParam;
+  }
+
+  /**
+   * Set the name of the query parameter carrying the marker.
+   *
+   * @param markerParam The parameter name (default "marker")
+   */
+  public void setMarkerParam(String markerParam) {
+    this.markerParam = markerParam;
+  }
+
+  public String getLimitParam() {
+    return this.limitParam;
+  }
+
+  /**
+   * Set the name of the query parameter carrying the page size.
+   *
+   * @param limitParam The parameter name (default "limit")
+   */
+  public void setLimitParam(String limitParam) {
+    this.limitParam = limitParam;
+  }
+
+  public int getPageSize() {
+    return this.pageSize;
+  }
+
+  /**
+   * Set the page size. A page with fewer items is taken as the last page.
+   *
+   * @param pageSize Number of items per page, 0 to use the default of the
+   *                 service (default)
+   */
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Returns an iterator over the items of all pages. No request is sent
+   * before the first call to hasNext or next.
+   * Request failures are thrown as UncheckedIOException.
+   *
+   * @param <E>     The item type
+   * @param request The request of the first page, it is not modified
+   * @param parser  The parser of page responses
+   * @return The iterator, to be closed if not iterated to the end
+   */
+  public <E> PageIterator<E> iterate(Request request, PageParser<T, E> parser) {
+    return new PageIterator<>(request, parser);
+  }
+
+  /**
+   * Iterator over the items of all pages.
+   *
+   * @param <E> The item type
+   */
+  public final class PageIterator<E> implements Iterator<E>, Closeable {
+    private final Request request;
+    private final PageParser<T, E> parser;
+    private Iterator<E> items = Collections.emptyIterator();
+    private Future<Page<E>> nextPage;
+    private volatile HttpTransport.Call<T> call;
+    private volatile boolean closed;
+    private boolean started;
+
+    private PageIterator(Request request, PageParser<T, E> parser) {
+      this.request = request;
+      this.parser = parser;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!this.started) {
+        this.started = true;
+        this.nextPage = this.prefetch(null);
+      }
+      while (!this.items.hasNext()) {
+        if (this.nextPage == null || this.closed) {
+          return false;
+        }
+        Page<E> page = this.await(this.nextPage);
+        List<E> pageItems = page.getItems() == null ? Collections.<E>emptyList() : page.getItems();
+        boolean last = page.getNextMarker() == null || pageItems.isEmpty()
+            || (pageSize > 0 && pageItems.size() < pageSize);
+        this.nextPage = last ? null : this.prefetch(page.getNextMarker());
+        this.items = pageItems.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public E next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return this.items.next();
+    }
+
+    /**
+     * Stops the iteration and cancels the request of a prefetched page.
+     */
+    @Override
+    public void close() {
+      this.closed = true;
+      this.items = Collections.emptyIterator();
+      if (this.nextPage != null) {
+        this.nextPage.cancel(true);
+        this.nextPage = null;
+      }
+      HttpTransport.Call<T> pending = this.call;
+      if (pending != null) {
+        pending.cancel();
+      }
+    }
+
+    private Future<Page<E>> prefetch(String marker) {
+      return executor.submit(() -> this.fetch(marker));
+    }
+
+    private Page<E> fetch(String marker) throws IOException {
+      Request pageRequest = RetryExecutor.copyOf(this.request);
+      if (pageSize > 0) {
+        pageRequest.getQueryStringParams().remove(limitParam);
+        pageRequest.addQueryStringParam(limitParam, String.valueOf(pageSize));
+      }
+      if (marker != null) {
+        pageRequest.getQueryStringParams().remove(markerParam);
+        pageRequest.addQueryStringParam(markerParam, marker);
+      }
+      new Signer(messageDigestAlgorithm).sign(pageRequest);
+
+      HttpTransport.Call<T> pageCall = transport.newCall(pageRequest,
+          pageRequest.getBody().getBytes(StandardCharsets.UTF_8));
+      this.call = pageCall;
+      if (this.closed) {
+        pageCall.cancel();
+      }
+      T response = pageCall.execute();
+      try {
+        int statusCode = transport.getStatusCode(response);
+        if (statusCode < 200 || statusCode >= 300) {
+          throw new IOException("page request failed with status " + statusCode);
+        }
+        return this.parser.parse(response);
+      } finally {
+        this.call = null;
+        transport.release(response);
+      }
+    }
+
+    private Page<E> await(Future<Page<E>> page) {
+      try {
+        return page.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        this.close();
+        throw new UncheckedIOException(new InterruptedIOException("interrupted while waiting for page"));
+      } catch (ExecutionException e) {
+        this.close();
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw new UncheckedIOException((IOException) cause);
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+  }
+}
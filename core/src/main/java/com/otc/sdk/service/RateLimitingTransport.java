@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.http.RateLimiter;
+
+/**
+ * HttpTransport that takes a permit from a RateLimiter before every request
+ * it sends, including retries and hedged requests.
+ * Requests are signed before they reach the transport. If a request waited
+ * for a permit for a second or longer, a copy of it is signed again, so its
+ * X-Sdk-Date does not fall behind the time it is sent.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class RateLimitingTransport<T> implements HttpTransport<T> {
+  private static final long RESIGN_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1L);
+  private static final String CONTENT_SHA256 = "x-sdk-content-sha256";
+
+  private final HttpTransport<T> delegate;
+  private final RateLimiter rateLimiter;
+
+  /**
+   * Constructor to initialize the RateLimitingTransport.
+   *
+   * @param delegate    The transport sending the requests
+   * @param rateLimiter The rate limiter
+   */
+  public RateLimitingTransport(HttpTransport<T> delegate, RateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public Call<T> newCall(Request request, byte[] body) throws IOException {
+    Call<T> call = this.delegate.newCall(request, body);
+    return new Call<T>() {
+      private volatile Call<T> current = call;
+      private volatile boolean cancelled;
+
+      @Override
+      public T execute() throws IOException {
+        long waitedNanos = rateLimiter.acquire(request);
+        if (waitedNanos >= RESIGN_AFTER_NANOS && getHeader(request, "Authorization") != null) {
+          Call<T> resigned = delegate.newCall(resign(request, body), body);
+          this.current = resigned;
+          if (this.cancelled) {
+            resigned.cancel();
+          }
+        }
+        return this.current.execute();
+      }
+
+      @Override
+      public void cancel() {
+        this.cancelled = true;
+        this.current.cancel();
+      }
+    };
+  }
+
+  /**
+   * Signs a copy of a request again with the current time. The request itself
+   * is not changed, as hedged calls may share it.
+   *
+   * @param request The signed request
+   * @param body    The request body as sent, null to use the body of the
+   *                request
+   * @return The signed copy
+   * @throws IOException if the request can not be copied
+   */
+  static Request resign(Request request, byte[] body) throws IOException {
+    Request copy = RetryExecutor.copyOf(request);
+    String authorization = getHeader(request, "Authorization");
+    Signer signer = new Signer(authorization.startsWith("SDK-HMAC-SM3") ? "SDK-HMAC-SM3" : "SDK-HMAC-SHA256");
+    String contentHash = body == null || getHeader(request, CONTENT_SHA256) != null ? signer.contentHash(copy)
+        : signer.contentHash(body);
+    signer.resign(copy, contentHash);
+    return copy;
+  }
+
+  private static String getHeader(Request request, String name) {
+    for (Entry<String, String> header : request.getHeaders().entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int getStatusCode(T response) {
+    return this.delegate.getStatusCode(response);
+  }
+
+  @Override
+  public String getHeader(T response, String name) {
+    return this.delegate.getHeader(response, name);
+  }
+
+  @Override
+  public InputStream getContent(T response) throws IOException {
+    return this.delegate.getContent(response);
+  }
+
+  @Override
+  public void release(T response) {
+    this.delegate.release(response);
+  }
+
+  @Override
+  public T onBodyComplete(T response, Runnable callback) {
+    return this.delegate.onBodyComplete(response, callback);
+  }
+}
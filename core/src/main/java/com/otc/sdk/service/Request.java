@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.otc.sdk.core.auth.credentials.Credentials;
 import com.otc.sdk.core.http.HttpMethodName;
 import com.otc.sdk.core.util.HttpUtils;
 
@@ -39,6 +40,7 @@ import com.otc.sdk.core.util.HttpUtils;
 public class Request {
   private String key = null;
   private String secret = null;
+  private String securityToken = null;
   private String method = null;
   private String url = null;
   private String body = null;
@@ -141,6 +143,37 @@ public class Request {
     }
   }
 
+  /**
+   * Returns the security token of temporary credentials.
+   *
+   * @return The security token, or null for permanent credentials
+   */
+  public String getSecurityToken() {
+    return this.securityToken;
+  }
+
+  /**
+   * Sets the security token of temporary credentials. The signer sends it in
+   * the X-Security-Token header.
+   *
+   * @param securityToken The security token, null for permanent credentials
+   */
+  public void setSecurityToken(String securityToken) {
+    this.securityToken = securityToken;
+  }
+
+  /**
+   * Sets access key, secret key and security token of the request.
+   *
+   * @param credentials The credentials to sign the request with
+   * @throws EmptyStringException if the access key or secret key is empty
+   */
+  public void setCredentials(Credentials credentials) throws EmptyStringException {
+    this.setKey(credentials.getAccessKey());
+    this.setSecret(credentials.getSecretKey());
+    this.securityToken = credentials.getSecurityToken();
+  }
+
   /**
    * Sets the app key for the request.
    *
@@ -378,4 +411,15 @@ public class Request {
       this.headers.put(name, value);
     }
   }
+
+  /**
+   * Removes a header from the request. The name is matched case-insensitively.
+   * 
+   * @param name The name of the header
+   */
+  public void removeHeader(String name) {
+    if (name != null) {
+      this.headers.keySet().removeIf(name::equalsIgnoreCase);
+    }
+  }
 }
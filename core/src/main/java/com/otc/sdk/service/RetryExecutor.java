@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map.Entry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.credentials.CredentialProvider;
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.auth.token.AuthToken;
+import com.otc.sdk.core.auth.token.TokenCache;
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.http.RetryBudget;
+import com.otc.sdk.core.http.RetryPolicy;
+import com.otc.sdk.core.metrics.RequestMetrics;
+import com.otc.sdk.core.metrics.RequestPhase;
+import com.otc.sdk.core.trace.RequestTrace;
+import com.otc.sdk.core.trace.TraceContext;
+import com.otc.sdk.core.trace.Tracer;
+import com.otc.sdk.core.util.GzipUtils;
+
+/**
+ * RetryExecutor signs and sends requests, retrying failed attempts according
+ * to a RetryPolicy.
+ * The request body is encoded and hashed once. Every attempt only renews the
+ * X-Sdk-Date header and the signature, and sends the same body buffer again.
+ * With token authentication, requests are not signed but carry the
+ * X-Auth-Token header of a TokenCache.
+ * With a Tracer, the traceparent header is set after signing, for every
+ * attempt, and the sign, send and receive spans are reported.
+ *
+ * @param <T> The response type of the HTTP client
+ */
+public class RetryExecutor<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RetryExecutor.class);
+
+  private final HttpTransport<T> transport;
+  private final RetryPolicy retryPolicy;
+  private final String messageDigestAlgorithm;
+  private int gzipThreshold = -1;
+  private CredentialProvider credentialProvider;
+  private TokenCache tokenCache;
+  private String tokenProjectId;
+  private RequestMetrics requestMetrics;
+  private Tracer tracer;
+
+  /**
+   * Constructor to initialize the RetryExecutor with the default message digest
+   * algorithm "SDK-HMAC-SHA256".
+   *
+   * @param transport   The transport used to send requests
+   * @param retryPolicy The retry policy
+   */
+  public RetryExecutor(HttpTransport<T> transport, RetryPolicy retryPolicy) {
+    this(transport, retryPolicy, "SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the RetryExecutor.
+   *
+   * @param transport              The transport used to send requests
+   * @param retryPolicy            The retry policy
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public RetryExecutor(HttpTransport<T> transport, RetryPolicy retryPolicy, String messageDigestAlgorithm) {
+    this.transport = transport;
+    this.retryPolicy = retryPolicy;
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  /**
+   * Enable gzip compression of POST, PUT and PATCH bodies. The body is
+   * compressed once before signing and sent with Content-Encoding gzip on
+   * every attempt. The compressed body is held in memory as a whole.
+   *
+   * @param gzipThreshold Minimum body length in characters, negative to
+   *                      disable compression (default)
+   */
+  public void setGzipThreshold(int gzipThreshold) {
+    this.gzipThreshold = gzipThreshold;
+  }
+
+  public CredentialProvider getCredentialProvider() {
+    return this.credentialProvider;
+  }
+
+  /**
+   * Set the provider of the credentials requests are signed with. The
+   * credentials are taken from the provider on every attempt, so refreshed
+   * credentials are used by retries. Without a provider, the key, secret and
+   * security token of the request are used.
+   *
+   * @param credentialProvider The credential provider, null to use the
+   *                           credentials of the request (default)
+   */
+  public void setCredentialProvider(CredentialProvider credentialProvider) {
+    this.credentialProvider = credentialProvider;
+  }
+
+  /**
+   * Authenticate requests with a cached IAM token in the X-Auth-Token header
+   * instead of signing them. Only use this for services accepting
+   * X-Auth-Token. A token rejected with status 401 is removed from the cache.
+   *
+   * @param tokenCache The token cache, null to sign requests (default)
+   * @param projectId  The project the tokens are scoped to
+   */
+  public void setTokenAuth(TokenCache tokenCache, String projectId) {
+    this.tokenCache = tokenCache;
+    this.tokenProjectId = projectId;
+  }
+
+  public RequestMetrics getRequestMetrics() {
+    return this.requestMetrics;
+  }
+
+  /**
+   * Set the metrics the signing time of every attempt is recorded in, as
+   * RequestPhase.SIGN. The first attempt includes hashing the body. Pass the
+   * same metrics to the transport to record the other phases.
+   *
+   * @param requestMetrics The metrics, null to record nothing (default)
+   */
+  public void setRequestMetrics(RequestMetrics requestMetrics) {
+    this.requestMetrics = requestMetrics;
+  }
+
+  public Tracer getTracer() {
+    return this.tracer;
+  }
+
+  /**
+   * Set the tracer propagating W3C trace context. The traceparent header is
+   * not signed, it is set after signing with the id of the send span of the
+   * attempt.
+   *
+   * @param tracer The tracer, null to send requests without trace context
+   *               (default)
+   */
+  public void setTracer(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  /**
+   * Signs and sends a request. The request passed in is not modified.
+   * If all attempts fail with a retryable status code, the last response is
+   * returned.
+   *
+   * @param request The request to send
+   * @return The response of the last attempt
+   * @throws IOException if the last attempt failed with an exception
+   */
+  public T execute(Request request) throws IOException {
+    Request signedRequest = copyOf(request);
+    HttpMethodName httpMethod = signedRequest.getMethod();
+    Signer signer = new Signer(this.messageDigestAlgorithm);
+    RequestTrace trace = this.tracer == null ? null : this.tracer.start(signedRequest);
+    byte[] body;
+    String contentHash;
+    long hashStart;
+    if (GzipUtils.shouldCompress(httpMethod, signedRequest.getBody(), this.gzipThreshold)) {
+      body = GzipUtils.gzip(signedRequest.getBody());
+      signedRequest.addHeader(GzipUtils.CONTENT_ENCODING, GzipUtils.GZIP);
+      hashStart = System.nanoTime();
+      contentHash = this.tokenCache == null ? signer.contentHash(body) : null;
+    } else {
+      body = signedRequest.getBody().getBytes(StandardCharsets.UTF_8);
+      hashStart = System.nanoTime();
+      contentHash = this.tokenCache == null ? signer.contentHash(signedRequest) : null;
+    }
+    long hashNanos = System.nanoTime() - hashStart;
+
+    RetryBudget budget = this.retryPolicy.getRetryBudget();
+    if (budget != null) {
+      budget.onRequest();
+    }
+
+    for (int attempt = 1;; ++attempt) {
+      long signStart = System.nanoTime();
+      AuthToken token = null;
+      if (this.tokenCache != null) {
+        token = this.tokenCache.authorize(signedRequest, this.tokenProjectId);
+      } else {
+        if (this.credentialProvider != null) {
+          signedRequest.setCredentials(this.credentialProvider.getCredentials());
+        }
+        signer.resign(signedRequest, contentHash);
+      }
+      if (this.requestMetrics != null) {
+        this.requestMetrics.recordPhase(RequestPhase.SIGN,
+            System.nanoTime() - signStart + (attempt == 1 ? hashNanos : 0L));
+      }
+      String sendSpanId = null;
+      long sendStart = 0L;
+      if (trace != null) {
+        trace.record(RequestTrace.SIGN, TraceContext.newSpanId(), null, signStart - (attempt == 1 ? hashNanos : 0L),
+            attempt, 0);
+        sendSpanId = trace.inject(signedRequest);
+        sendStart = System.nanoTime();
+      }
+      T response;
+      try {
+        response = this.transport.execute(signedRequest, body);
+      } catch (IOException e) {
+        if (trace != null) {
+          trace.record(RequestTrace.SEND, sendSpanId, null, sendStart, attempt, -1);
+        }
+        if (!this.retryPolicy.shouldRetry(httpMethod, e, attempt) || !acquireRetry(budget)) {
+          throw e;
+        }
+        LOGGER.debug("attempt {} of {} {} failed: {}", attempt, httpMethod, signedRequest.getPath(),
+            e.getMessage());
+        sleep(this.retryPolicy.getDelayMillis(attempt, null));
+        continue;
+      }
+
+      int statusCode = this.transport.getStatusCode(response);
+      if (trace != null) {
+        trace.record(RequestTrace.SEND, sendSpanId, null, sendStart, attempt, statusCode);
+      }
+      if (token != null && statusCode == 401) {
+        this.tokenCache.invalidate(this.tokenProjectId, token);
+      }
+      if (!this.retryPolicy.shouldRetry(httpMethod, statusCode, attempt)) {
+        return this.traceReceive(trace, response, sendSpanId, attempt, statusCode);
+      }
+      long delay = this.retryPolicy.getDelayMillis(attempt, this.transport.getHeader(response, "Retry-After"));
+      if (delay < 0 || !acquireRetry(budget)) {
+        return this.traceReceive(trace, response, sendSpanId, attempt, statusCode);
+      }
+      LOGGER.debug("attempt {} of {} {} returned status {}", attempt, httpMethod, signedRequest.getPath(),
+          statusCode);
+      this.transport.release(response);
+      sleep(delay);
+    }
+  }
+
+  /**
+   * Reports the receive span of the returned response once the caller read
+   * or closed its body.
+   */
+  private T traceReceive(RequestTrace trace, T response, String sendSpanId, int attempt, int statusCode) {
+    if (trace == null) {
+      return response;
+    }
+    long receiveStart = System.nanoTime();
+    return this.transport.onBodyComplete(response,
+        () -> trace.record(RequestTrace.RECEIVE, TraceContext.newSpanId(), sendSpanId, receiveStart, attempt,
+            statusCode));
+  }
+
+  /**
+   * Copies the request, so that signing headers are not added to the request
+   * of the caller. The body is set to an empty string for methods without a
+   * body, as done by Client.sign. Key and secret may be missing if they are
+   * set later from a CredentialProvider.
+   *
+   * @param request The request to copy
+   * @return The copied request
+   * @throws IOException if the URL of the request can not be encoded
+   */
+  static Request copyOf(Request request) throws IOException {
+    Request copy = new Request();
+    if (request.getKey() != null) {
+      copy.setAppKey(request.getKey());
+    }
+    if (request.getSecrect() != null) {
+      copy.setAppSecrect(request.getSecrect());
+    }
+    copy.setSecurityToken(request.getSecurityToken());
+    copy.setMethod(request.getMethod().name());
+    copy.setUrl(request.getUrl());
+    for (Entry<String, String> header : request.getHeaders().entrySet()) {
+      copy.addHeader(header.getKey(), header.getValue());
+    }
+
+    HttpMethodName httpMethod = request.getMethod();
+    boolean hasBody = httpMethod == HttpMethodName.POST || httpMethod == HttpMethodName.PUT
+        || httpMethod == HttpMethodName.PATCH;
+    copy.setBody(hasBody && request.getBody() != null ? request.getBody() : "");
+    return copy;
+  }
+
+  private static boolean acquireRetry(RetryBudget budget) {
+    return budget == null || budget.tryAcquireRetry();
+  }
+
+  private static void sleep(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for retry");
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.Map.Entry;
+
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
+
+import com.otc.sdk.core.auth.signer.Signer;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * StreamingUploader signs requests whose body is produced while it is sent.
+ * The request is signed with x-sdk-content-sha256 set to UNSIGNED-PAYLOAD, so
+ * neither the length nor the hash of the body is needed up front. The body is
+ * sent with chunked transfer encoding and is never buffered.
+ * Since the body is not covered by the signature, use it only over HTTPS.
+ */
+public class StreamingUploader {
+  private final String messageDigestAlgorithm;
+
+  /**
+   * Writes the body of a streaming upload.
+   */
+  public interface BodyWriter {
+    /**
+     * Writes the body to the output stream. The stream must not be closed.
+     * The body is written once, requests with a streamed body are not retried.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+  }
+
+  /**
+   * Constructor to initialize the StreamingUploader with the default message
+   * digest algorithm "SDK-HMAC-SHA256".
+   */
+  public StreamingUploader() {
+    this("SDK-HMAC-SHA256");
+  }
+
+  /**
+   * Constructor to initialize the StreamingUploader.
+   *
+   * @param messageDigestAlgorithm The algorithm to use for signing
+   */
+  public StreamingUploader(String messageDigestAlgorithm) {
+    this.messageDigestAlgorithm = messageDigestAlgorithm;
+  }
+
+  /**
+   * Signs a request with an unsigned payload. The request passed in is not
+   * modified.
+   *
+   * @param request The request to sign, its body is ignored
+   * @return The signed request
+   * @throws IOException if the URL of the request can not be encoded
+   */
+  public Request signRequest(Request request) throws IOException {
+    Request signedRequest = RetryExecutor.copyOf(request);
+    signedRequest.setBody("");
+    signedRequest.removeHeader("Content-Length");
+    signedRequest.removeHeader(Signer.X_SDK_CONTENT_SHA256);
+    signedRequest.addHeader(Signer.X_SDK_CONTENT_SHA256, Signer.UNSIGNED_PAYLOAD);
+    new Signer(this.messageDigestAlgorithm).sign(signedRequest);
+    return signedRequest;
+  }
+
+  /**
+   * Signs a request with a streamed body for Apache HttpClient. The body is
+   * written by a chunked entity when the request is executed, the entity is
+   * not repeatable.
+   *
+   * @param request The request to sign, its body is ignored
+   * @param body    Writer of the body
+   * @return The signed HttpRequestBase
+   * @throws IOException if the URL of the request can not be encoded
+   */
+  public HttpRequestBase sign(Request request, BodyWriter body) throws IOException {
+    Request signedRequest = this.signRequest(request);
+    EntityTemplate entity = new EntityTemplate(body::writeTo);
+    entity.setContentType(ContentType.DEFAULT_BINARY.toString());
+    entity.setChunked(true);
+    HttpRequestBase httpRequest = AccessServiceImpl.createRequest(signedRequest.getUrl(), entity,
+        signedRequest.getMethod());
+    AccessServiceImpl.addHeaders(httpRequest, signedRequest.getHeaders());
+    return httpRequest;
+  }
+
+  /**
+   * Signs a request with a streamed body for OkHttp. The body reports an
+   * unknown length, so OkHttp sends it chunked, and is one-shot, so OkHttp
+   * does not retry the request.
+   *
+   * @param request The request to sign, its body is ignored
+   * @param body    Writer of the body
+   * @return The signed okhttp3.Request
+   * @throws IOException if the URL of the request can not be encoded
+   */
+  public okhttp3.Request signOkhttp(Request request, BodyWriter body) throws IOException {
+    Request signedRequest = this.signRequest(request);
+    RequestBody entity = new RequestBody() {
+      @Override
+      public MediaType contentType() {
+        return null;
+      }
+
+      @Override
+      public long contentLength() {
+        return -1L;
+      }
+
+      @Override
+      public boolean isOneShot() {
+        return true;
+      }
+
+      @Override
+      public void writeTo(BufferedSink sink) throws IOException {
+        body.writeTo(sink.outputStream());
+        sink.flush();
+      }
+    };
+    return AccessServiceOkhttpImpl.createRequest(signedRequest.getUrl(), signedRequest.getHeaders(), entity,
+        signedRequest.getMethod());
+  }
+
+  /**
+   * Signs a request and sends it with a streamed body over an
+   * HttpURLConnection in chunked streaming mode.
+   * The caller reads the response from the returned connection.
+   *
+   * @param request    The request to sign, its body is ignored
+   * @param body       Writer of the body
+   * @param connection An unconnected connection to the URL of the request
+   * @return The connection, with the request sent
+   * @throws IOException if sending fails
+   */
+  public HttpURLConnection send(Request request, BodyWriter body, HttpURLConnection connection)
+      throws IOException {
+    Request signedRequest = this.signRequest(request);
+    connection.setRequestMethod(signedRequest.getMethod().name());
+    connection.setDoOutput(true);
+    connection.setDoInput(true);
+    connection.setChunkedStreamingMode(0);
+    for (Entry<String, String> header : signedRequest.getHeaders().entrySet()) {
+      connection.setRequestProperty(header.getKey(), header.getValue());
+    }
+
+    try (OutputStream out = connection.getOutputStream()) {
+      body.writeTo(out);
+    }
+    return connection;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Progress of a multipart upload, stored in a local properties file.
+ * The checkpoint is only valid for the same file with the same size,
+ * modification time and part size and for the same multipart upload id,
+ * otherwise the upload starts over.
+ * Every completed part is written to disk immediately, the file is replaced
+ * atomically.
+ */
+class UploadCheckpoint {
+  private static final String PART_PREFIX = "part.";
+  private static final String UPLOAD_ID = "uploadId";
+
+  private final Path checkpointFile;
+  private final Properties properties = new Properties();
+
+  private UploadCheckpoint(Path checkpointFile) {
+    this.checkpointFile = checkpointFile;
+  }
+
+  /**
+   * Loads the checkpoint of an upload, or creates a new one if there is no
+   * valid checkpoint for the file.
+   *
+   * @param checkpointFile The checkpoint file
+   * @param file           The file being uploaded
+   * @param uploadId       The id of the multipart upload
+   * @param partSize       The part size of the upload
+   * @return The checkpoint
+   * @throws IOException if the file attributes or the checkpoint can not be
+   *                     read
+   */
+  static UploadCheckpoint load(Path checkpointFile, Path file, String uploadId, long partSize)
+      throws IOException {
+    UploadCheckpoint checkpoint = new UploadCheckpoint(checkpointFile);
+    Properties expected = new Properties();
+    expected.setProperty("file", file.toAbsolutePath().normalize().toString());
+    expected.setProperty("size", Long.toString(Files.size(file)));
+    expected.setProperty("mtime", Long.toString(Files.getLastModifiedTime(file).toMillis()));
+    expected.setProperty("partSize", Long.toString(partSize));
+    expected.setProperty(UPLOAD_ID, uploadId);
+
+    if (Files.exists(checkpointFile)) {
+      try (InputStream in = Files.newInputStream(checkpointFile)) {
+        checkpoint.properties.load(in);
+      }
+      for (String name : expected.stringPropertyNames()) {
+        if (!expected.getProperty(name).equals(checkpoint.properties.getProperty(name))) {
+          checkpoint.properties.clear();
+          break;
+        }
+      }
+    }
+    checkpoint.properties.putAll(expected);
+    return checkpoint;
+  }
+
+  /**
+   * Reads the upload id of a checkpoint.
+   *
+   * @param checkpointFile The checkpoint file
+   * @return The upload id, or null if the file does not exist or has no
+   *         upload id
+   * @throws IOException if the checkpoint can not be read
+   */
+  static String readUploadId(Path checkpointFile) throws IOException {
+    if (!Files.exists(checkpointFile)) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(checkpointFile)) {
+      properties.load(in);
+    }
+    return properties.getProperty(UPLOAD_ID);
+  }
+
+  /**
+   * Returns a completed part.
+   *
+   * @param partNumber The part number, starting at 1
+   * @return The entry "contentHash,etag" of the part, or null if the part was
+   *         not uploaded yet
+   */
+  synchronized String getPart(int partNumber) {
+    return this.properties.getProperty(PART_PREFIX + partNumber);
+  }
+
+  /**
+   * Records a completed part and writes the checkpoint to disk.
+   *
+   * @param partNumber  The part number, starting at 1
+   * @param contentHash The content hash of the part
+   * @param etag        The ETag returned for the part, can be null
+   * @throws IOException if the checkpoint can not be written
+   */
+  synchronized void completePart(int partNumber, String contentHash, String etag) throws IOException {
+    this.properties.setProperty(PART_PREFIX + partNumber, contentHash + "," + (etag == null ? "" : etag));
+    Path parent = this.checkpointFile.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(parent, this.checkpointFile.getFileName().toString(), ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp)) {
+      this.properties.store(out, "multipart upload checkpoint");
+    }
+    Files.move(temp, this.checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.benchmark;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+
+/**
+ * CipherSuiteBenchmark class measures the handshake time and the bulk throughput of each cipher suite
+ * against a local TLS server.
+ * For every cipher suite an SDK client is created that offers only this suite. The handshake time is
+ * the mean of full handshakes, the throughput is measured by downloading data over one connection.
+ * TLSv1.3 suites are run with the protocol TLSv1.3, all others with TLSv1.2. Suites not matching the
+ * key type of the server certificate are skipped.
+ * Arguments: the path and password of a PKCS12 key store with the server certificate, and optionally
+ * the number of handshakes per suite (default 200), the megabytes downloaded per suite (default 256)
+ * and a comma separated list of cipher suites (default the suites of the SDK and the ECDHE CHACHA20
+ * suites). A key store can be created with
+ * keytool -genkeypair -keyalg EC -dname CN=localhost -keystore server.p12 -storepass changeit
+ */
+public class CipherSuiteBenchmark {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CipherSuiteBenchmark.class);
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  public static void main(String[] args) throws Exception {
+    char[] password = args[1].toCharArray();
+    int handshakes = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+    long megabytes = args.length > 3 ? Long.parseLong(args[3]) : 256L;
+    List<String> cipherSuites = new ArrayList<>();
+    if (args.length > 4) {
+      cipherSuites.addAll(Arrays.asList(args[4].split(",")));
+    } else {
+      cipherSuites.addAll(Arrays.asList(Constant.SUPPORTED_TLS13_CIPHER_SUITES));
+      cipherSuites.addAll(Arrays.asList(Constant.SUPPORTED_CIPHER_SUITES));
+      cipherSuites.add("TLS_ECDHE_ECDSA_WITH_CHACHA20_POLY1305_SHA256");
+      cipherSuites.add("TLS_ECDHE_RSA_WITH_CHACHA20_POLY1305_SHA256");
+    }
+
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+      keyStore.load(in, password);
+    }
+    KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    kmf.init(keyStore, password);
+    SSLContext serverContext = SSLContext.getInstance("TLS");
+    serverContext.init(kmf.getKeyManagers(), null, null);
+
+    try (SSLServerSocket server = (SSLServerSocket) serverContext.getServerSocketFactory().createServerSocket(0, 50,
+        InetAddress.getLoopbackAddress())) {
+      server.setEnabledCipherSuites(server.getSupportedCipherSuites());
+      Thread acceptor = new Thread(() -> accept(server), "cipher-suite-benchmark-server");
+      acceptor.setDaemon(true);
+      acceptor.start();
+
+      for (String cipherSuite : cipherSuites) {
+        String protocol = cipherSuite.startsWith("TLS_ECDHE_") || cipherSuite.startsWith("TLS_RSA_")
+            ? Constant.INTERNATIONAL_PROTOCOL : Constant.TLS13_PROTOCOL;
+        SSLSocketFactory factory = SSLCipherSuiteUtil.createOkHttpClient(protocol, new String[] { cipherSuite })
+            .sslSocketFactory();
+        try {
+          // warm up
+          handshakes(factory, server.getLocalPort(), Math.max(1, handshakes / 5));
+          String negotiated = transfer(factory, server.getLocalPort(), Math.max(1L, megabytes / 4));
+          if (!cipherSuite.equals(negotiated)) {
+            throw new IOException("negotiated " + negotiated);
+          }
+
+          long start = System.nanoTime();
+          handshakes(factory, server.getLocalPort(), handshakes);
+          double handshakeMillis = (System.nanoTime() - start) / 1e6 / handshakes;
+          start = System.nanoTime();
+          transfer(factory, server.getLocalPort(), megabytes);
+          double seconds = (System.nanoTime() - start) / 1e9;
+          LOGGER.info(String.format("%-45s %s: %.3f ms per handshake, %.1f MB/s", cipherSuite, protocol,
+              handshakeMillis, megabytes / seconds));
+        } catch (IOException e) {
+          LOGGER.info(String.format("%-45s %s: skipped, %s", cipherSuite, protocol, e.getMessage()));
+        }
+      }
+    }
+  }
+
+  private static void handshakes(SSLSocketFactory factory, int port, int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      try (SSLSocket socket = request(factory, port, 1L)) {
+        socket.getInputStream().read();
+        socket.getSession().invalidate();
+      }
+    }
+  }
+
+  private static String transfer(SSLSocketFactory factory, int port, long megabytes) throws IOException {
+    long remaining = megabytes * 1024L * 1024L;
+    try (SSLSocket socket = request(factory, port, remaining)) {
+      InputStream in = socket.getInputStream();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (remaining > 0) {
+        int read = in.read(buffer);
+        if (read < 0) {
+          throw new IOException("connection closed with " + remaining + " bytes remaining");
+        }
+        remaining -= read;
+      }
+      return socket.getSession().getCipherSuite();
+    }
+  }
+
+  private static SSLSocket request(SSLSocketFactory factory, int port, long bytes) throws IOException {
+    SSLSocket socket = (SSLSocket) factory.createSocket("localhost", port);
+    try {
+      socket.setTcpNoDelay(true);
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      out.writeLong(bytes);
+      out.flush();
+      return socket;
+    } catch (IOException e) {
+      socket.close();
+      throw e;
+    }
+  }
+
+  private static void accept(SSLServerSocket server) {
+    while (!server.isClosed()) {
+      try {
+        SSLSocket socket = (SSLSocket) server.accept();
+        Thread thread = new Thread(() -> serve(socket), "cipher-suite-benchmark-connection");
+        thread.setDaemon(true);
+        thread.start();
+      } catch (IOException e) {
+        // the benchmark is done
+      }
+    }
+  }
+
+  private static void serve(SSLSocket socket) {
+    try (SSLSocket connection = socket) {
+      connection.setTcpNoDelay(true);
+      long remaining = new DataInputStream(connection.getInputStream()).readLong();
+      OutputStream out = connection.getOutputStream();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (remaining > 0) {
+        int length = (int) Math.min(buffer.length, remaining);
+        out.write(buffer, 0, length);
+        remaining -= length;
+      }
+      out.flush();
+      // wait for the client to close
+      connection.getInputStream().read();
+    } catch (IOException e) {
+      // the client closed the connection
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.benchmark;
+
+import java.security.KeyStore;
+import java.security.SecureRandom;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+
+/**
+ * ClientCreationBenchmark class measures how long creating an HTTP client takes.
+ * The first scenario builds a new SSLContext, TrustManagerFactory and SP800 CTR DRBG for every
+ * client, as SSLCipherSuiteUtil did before the contexts were cached. The other scenarios use
+ * SSLCipherSuiteUtil, which creates one SSLContext per protocol and verify mode and shares it
+ * between all clients.
+ * The number of clients per scenario can be passed as first argument (default 200).
+ */
+public class ClientCreationBenchmark {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClientCreationBenchmark.class);
+
+  /**
+   * Creates a client of one scenario.
+   */
+  private interface ClientFactory {
+    Object create() throws Exception;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    String protocol = Constant.INTERNATIONAL_PROTOCOL;
+
+    run("new SSLContext per client", clients, () -> newSslContext(protocol));
+    run("createOkHttpClient", clients, () -> SSLCipherSuiteUtil.createOkHttpClient(protocol));
+    run("createOkHttpClientWithVerify", clients,
+        () -> SSLCipherSuiteUtil.createOkHttpClientWithVerify(protocol, "localhost"));
+    run("createHttpClient", clients, () -> SSLCipherSuiteUtil.createHttpClient(protocol));
+    run("createHttpClientWithVerify", clients,
+        () -> SSLCipherSuiteUtil.createHttpClientWithVerify(protocol, "localhost"));
+  }
+
+  private static void run(String name, int clients, ClientFactory factory) throws Exception {
+    long start = System.nanoTime();
+    factory.create();
+    long first = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < clients; i++) {
+      factory.create();
+    }
+    long total = System.nanoTime() - start;
+    LOGGER.info(String.format("%-30s first: %8.3f ms, average of %d: %8.3f ms", name, first / 1e6, clients,
+        total / 1e6 / clients));
+  }
+
+  private static SSLContext newSslContext(String protocol) throws Exception {
+    SecureRandom source = SecureRandom.getInstance(Constant.SECURE_RANDOM_ALGORITHM_NATIVE_PRNG_NON_BLOCKING);
+    SecureRandom drbg = new SP800SecureRandomBuilder(source, true).setEntropyBitsRequired(384)
+        .buildCTR(AESEngine.newInstance(), 256, null, false);
+    TrustManagerFactory tmf = TrustManagerFactory.getInstance(Constant.TRUST_MANAGER_FACTORY);
+    tmf.init((KeyStore) null);
+    TrustManager[] trustManagers = tmf.getTrustManagers();
+    SSLContext sslContext = SSLContext.getInstance(protocol, "SunJSSE");
+    sslContext.init(null, trustManagers, drbg);
+    return sslContext;
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.DrbgMode;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+
+/**
+ * DrbgBenchmark class measures the TLS handshake throughput of the client for each DrbgMode.
+ * Several threads open connections to a local TLS server concurrently. Sessions are not resumed,
+ * so every connection performs a full handshake.
+ * Arguments: the path and password of a PKCS12 key store with the server certificate, and
+ * optionally the number of client threads (default 8) and the duration per mode in seconds
+ * (default 10). A key store can be created with
+ * keytool -genkeypair -keyalg EC -dname CN=localhost -keystore server.p12 -storepass changeit
+ */
+public class DrbgBenchmark {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DrbgBenchmark.class);
+
+  public static void main(String[] args) throws Exception {
+    char[] password = args[1].toCharArray();
+    int threads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+    long seconds = args.length > 3 ? Long.parseLong(args[3]) : 10L;
+
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+      keyStore.load(in, password);
+    }
+    KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    kmf.init(keyStore, password);
+    SSLContext serverContext = SSLContext.getInstance("TLS");
+    serverContext.init(kmf.getKeyManagers(), null, null);
+
+    ExecutorService serverThreads = Executors.newCachedThreadPool();
+    ExecutorService clientThreads = Executors.newFixedThreadPool(threads);
+    try (SSLServerSocket server = (SSLServerSocket) serverContext.getServerSocketFactory().createServerSocket(0, 200,
+        InetAddress.getLoopbackAddress())) {
+      Thread acceptor = new Thread(() -> accept(server, serverThreads), "drbg-benchmark-server");
+      acceptor.setDaemon(true);
+      acceptor.start();
+
+      for (DrbgMode mode : DrbgMode.values()) {
+        SSLCipherSuiteUtil.setDrbgMode(mode);
+        SSLSocketFactory factory = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL)
+            .sslSocketFactory();
+        // warm up
+        run(factory, server.getLocalPort(), clientThreads, threads, Math.max(1L, seconds / 5));
+        long handshakes = run(factory, server.getLocalPort(), clientThreads, threads, seconds);
+        LOGGER.info(String.format("%-20s %d threads: %.1f handshakes/s", mode, threads,
+            handshakes / (double) seconds));
+      }
+    } finally {
+      clientThreads.shutdownNow();
+      serverThreads.shutdownNow();
+    }
+  }
+
+  private static long run(SSLSocketFactory factory, int port, ExecutorService clientThreads, int threads,
+      long seconds) throws Exception {
+    LongAdder handshakes = new LongAdder();
+    long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    List<Future<?>> clients = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      clients.add(clientThreads.submit(() -> {
+        while (System.nanoTime() < end) {
+          try (SSLSocket socket = (SSLSocket) factory.createSocket("localhost", port)) {
+            socket.setTcpNoDelay(true);
+            socket.startHandshake();
+            socket.getInputStream().read();
+            socket.getSession().invalidate();
+          }
+          handshakes.increment();
+        }
+        return null;
+      }));
+    }
+    for (Future<?> client : clients) {
+      client.get();
+    }
+    return handshakes.sum();
+  }
+
+  private static void accept(SSLServerSocket server, ExecutorService serverThreads) {
+    while (!server.isClosed()) {
+      try {
+        SSLSocket socket = (SSLSocket) server.accept();
+        serverThreads.execute(() -> serve(socket));
+      } catch (IOException e) {
+        // the benchmark is done
+      }
+    }
+  }
+
+  private static void serve(SSLSocket socket) {
+    try (SSLSocket connection = socket) {
+      connection.setTcpNoDelay(true);
+      connection.startHandshake();
+      connection.getOutputStream().write(0);
+      connection.getOutputStream().flush();
+      // wait for the client to close
+      connection.getInputStream().read();
+    } catch (IOException e) {
+      // the client closed the connection
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.signer.Signer;
+import com.otc.sdk.core.util.Warmup;
+import com.otc.sdk.service.Request;
+
+/**
+ * FirstSignedRequestBenchmark class measures how long the first request of an application takes to
+ * sign, for SDK-HMAC-SHA256 and SDK-HMAC-SM3, with and without a background warm-up.
+ * Every run starts a new JVM. The JVM simulates the startup of an application by sleeping, then
+ * signs its first request. With warm-up, Warmup.start is called before the startup.
+ * Arguments: optionally the number of JVMs per case (default 5) and the simulated startup time in
+ * milliseconds (default 1000).
+ */
+public class FirstSignedRequestBenchmark {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FirstSignedRequestBenchmark.class);
+  private static final String CHILD = "child";
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && CHILD.equals(args[0])) {
+      child(args[1], Boolean.parseBoolean(args[2]), Long.parseLong(args[3]));
+      return;
+    }
+    int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+    long startupMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000L;
+
+    for (String algorithm : new String[] { "SDK-HMAC-SHA256", "SDK-HMAC-SM3" }) {
+      for (boolean warmup : new boolean[] { false, true }) {
+        long[] first = new long[runs];
+        long[] second = new long[runs];
+        long[] uptime = new long[runs];
+        for (int i = 0; i < runs; i++) {
+          long[] result = fork(algorithm, warmup, startupMillis);
+          first[i] = result[0];
+          second[i] = result[1];
+          uptime[i] = result[2];
+        }
+        LOGGER.info(String.format("%-16s warm-up %-5s first sign %8.2f ms, second sign %6.3f ms, "
+            + "first signed request at %5d ms uptime (median of %d JVMs)", algorithm, warmup,
+            median(first) / 1e6, median(second) / 1e6, median(uptime), runs));
+      }
+    }
+  }
+
+  private static long[] fork(String algorithm, boolean warmup, long startupMillis) throws Exception {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+        FirstSignedRequestBenchmark.class.getName(), CHILD, algorithm, String.valueOf(warmup),
+        String.valueOf(startupMillis)).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    String result = null;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(CHILD + " ")) {
+          result = line.substring(CHILD.length() + 1);
+        }
+      }
+    }
+    if (process.waitFor() != 0 || result == null) {
+      throw new IllegalStateException("benchmark JVM failed for " + algorithm);
+    }
+    return Arrays.stream(result.split(" ")).mapToLong(Long::parseLong).toArray();
+  }
+
+  private static void child(String algorithm, boolean warmup, long startupMillis) throws Exception {
+    if (warmup) {
+      Warmup.start(null, false, algorithm);
+    }
+    // the application starts up
+    Thread.sleep(startupMillis);
+
+    long start = System.nanoTime();
+    sign(algorithm);
+    long first = System.nanoTime() - start;
+    long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+    start = System.nanoTime();
+    sign(algorithm);
+    long second = System.nanoTime() - start;
+    // the result is read by the parent from stdout
+    System.out.println(CHILD + " " + first + " " + second + " " + uptime);
+  }
+
+  private static void sign(String algorithm) throws Exception {
+    Request request = new Request();
+    request.setKey("benchmark-key");
+    request.setSecret("benchmark-secret");
+    request.setMethod("GET");
+    request.setUrl("https://vpc.eu-de.otc.t-systems.com/v1/project/vpcs?limit=10");
+    request.addHeader("Content-Type", "application/json");
+    request.setBody("");
+    new Signer(algorithm).sign(request);
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+}
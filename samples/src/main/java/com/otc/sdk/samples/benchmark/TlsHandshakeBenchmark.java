@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.core.util.TlsHandshakeMetrics;
+
+/**
+ * TlsHandshakeBenchmark class compares the TLS handshake latency of TLSv1.2 and TLSv1.3 against a
+ * local TLS server.
+ * Every connection performs a handshake and reads one byte sent by the server. The client sockets are created by the socket factory of an SDK client, so the shared SSLContext
+ * and its session cache are used. Full handshakes are measured by invalidating each session after
+ * the handshake, resumed handshakes by keeping it. The numbers of full and resumed handshakes are
+ * taken from TlsHandshakeMetrics.
+ * Arguments: the path and password of a PKCS12 key store with the server certificate, and
+ * optionally the number of handshakes per scenario (default 1000). A key store can be created with
+ * keytool -genkeypair -keyalg EC -dname CN=localhost -keystore server.p12 -storepass changeit
+ */
+public class TlsHandshakeBenchmark {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TlsHandshakeBenchmark.class);
+
+  public static void main(String[] args) throws Exception {
+    char[] password = args[1].toCharArray();
+    int handshakes = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+      keyStore.load(in, password);
+    }
+    KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    kmf.init(keyStore, password);
+    SSLContext serverContext = SSLContext.getInstance("TLS");
+    serverContext.init(kmf.getKeyManagers(), null, null);
+
+    try (SSLServerSocket server = (SSLServerSocket) serverContext.getServerSocketFactory().createServerSocket(0, 50,
+        InetAddress.getLoopbackAddress())) {
+      Thread acceptor = new Thread(() -> accept(server), "tls-benchmark-server");
+      acceptor.setDaemon(true);
+      acceptor.start();
+
+      for (String protocol : new String[] { Constant.INTERNATIONAL_PROTOCOL, Constant.TLS13_PROTOCOL }) {
+        SSLSocketFactory factory = SSLCipherSuiteUtil.createOkHttpClient(protocol).sslSocketFactory();
+        for (boolean resume : new boolean[] { false, true }) {
+          // warm up
+          run(factory, server.getLocalPort(), handshakes / 5, resume);
+          TlsHandshakeMetrics.reset();
+          long start = System.nanoTime();
+          String negotiated = run(factory, server.getLocalPort(), handshakes, resume);
+          long total = System.nanoTime() - start;
+          LOGGER.info(String.format("%s (negotiated %s, %s): %.3f ms per handshake, %d full, %d resumed", protocol,
+              negotiated, resume ? "resumption" : "no resumption", total / 1e6 / handshakes,
+              TlsHandshakeMetrics.getFullHandshakes(), TlsHandshakeMetrics.getResumedHandshakes()));
+        }
+      }
+    }
+  }
+
+  private static String run(SSLSocketFactory factory, int port, int handshakes, boolean resume)
+      throws IOException {
+    String negotiated = null;
+    for (int i = 0; i < handshakes; i++) {
+      try (SSLSocket socket = (SSLSocket) factory.createSocket("localhost", port)) {
+        socket.setTcpNoDelay(true);
+        socket.startHandshake();
+        // reading the first byte also processes the TLSv1.3 session ticket sent after the handshake
+        socket.getInputStream().read();
+        negotiated = socket.getSession().getProtocol();
+        if (!resume) {
+          socket.getSession().invalidate();
+        }
+      }
+    }
+    return negotiated;
+  }
+
+  private static void accept(SSLServerSocket server) {
+    while (!server.isClosed()) {
+      try (SSLSocket socket = (SSLSocket) server.accept()) {
+        socket.setTcpNoDelay(true);
+        socket.startHandshake();
+        socket.getOutputStream().write(0);
+        socket.getOutputStream().flush();
+        // wait for the client to close
+        socket.getInputStream().read();
+      } catch (IOException e) {
+        // the client closed the connection or the benchmark is done
+      }
+    }
+  }
+}
@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
@@ -52,8 +51,8 @@ public class HttpClientDemo {
       HttpRequestBase signedRequest = Client.sign(httpClientRequest, Constant.SIGNATURE_ALGORITHM_SDK_HMAC_SHA256);
       if (Constant.DO_VERIFY) {
         // create httpClient and verify ssl certificate
-        HostName.setUrlHostName(httpClientRequest.getHost());
-        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            httpClientRequest.getHost());
       } else {
         // create httpClient and do not verify ssl certificate
         client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClient(Constant.INTERNATIONAL_PROTOCOL);
@@ -1,29 +1,21 @@
 package com.otc.sdk.samples.demo;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Set;
+import java.net.URL;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.otc.sdk.core.auth.vo.SignResult;
 import com.otc.sdk.core.http.HttpMethodName;
-import com.otc.sdk.core.util.BinaryUtils;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
-import com.otc.sdk.core.util.SignUtils;
+import com.otc.sdk.service.FileUploader;
 import com.otc.sdk.service.Request;
 
 /**
@@ -34,6 +26,7 @@ import com.otc.sdk.service.Request;
 public class LargeFileUploadDemo {
   private static final Logger LOGGER = LoggerFactory.getLogger(LargeFileUploadDemo.class);
   private static final String UTF8 = "UTF-8";
+  private static final FileUploader UPLOADER = new FileUploader(Constant.SIGNATURE_ALGORITHM_SDK_HMAC_SHA256);
 
   public static void main(String[] args) {
     String fname = "fileName";
@@ -54,8 +47,6 @@ public class LargeFileUploadDemo {
       fileUploadRequest.setMethod(HttpMethodName.POST.toString());
       fileUploadRequest.setUrl("your url");
       fileUploadRequest.addHeader("Content-Type", "plain/text");
-      String fileHash = calcSha256Hex(fname);
-      fileUploadRequest.addHeader("x-sdk-content-sha256", fileHash);
       // if it was published in other envs(except for Release),you need to add the
       // information x-stage and the value is env's name
     } catch (Exception e) {
@@ -130,83 +121,16 @@ public class LargeFileUploadDemo {
    */
   private static HttpURLConnection initConnAndSendContent(Request request, HttpURLConnection conn, String fname)
       throws Exception {
-    // Sign the request.
-    SignResult signRet = SignUtils.sign(request);
+    URL url = new URL(request.getUrl());
     if (Constant.DO_VERIFY) {
       // initial connection and verify ssl certificate
-      HostName.setUrlHostName(request.getHost());
-      conn = SSLCipherSuiteUtil.createHttpsOrHttpURLConnectionWithVerify(signRet.getUrl(),
-          Constant.INTERNATIONAL_PROTOCOL);
+      conn = SSLCipherSuiteUtil.createHttpsOrHttpURLConnectionWithVerify(url, Constant.INTERNATIONAL_PROTOCOL);
     } else {
       // initial connection and do not verify ssl certificate
-      conn = SSLCipherSuiteUtil.createHttpsOrHttpURLConnection(signRet.getUrl(), Constant.INTERNATIONAL_PROTOCOL);
-    }
-    conn.setRequestMethod(request.getMethod().name());
-    conn.setDoOutput(true);
-    conn.setDoInput(true);
-
-    // Send the request.
-    if (signRet.getHeaders().size() > 0) {
-      Set<String> headerSet = signRet.getHeaders().keySet();
-      for (String key : headerSet) {
-        String value = signRet.getHeaders().get(key);
-        conn.setRequestProperty(key, value);
-      }
-    }
-    // Send a file.
-    setFileConent(fname, conn.getOutputStream());
-    return conn;
-  }
-
-  /**
-   * Reads the content of a file and writes it to the provided OutputStream.
-   *
-   * @param filePath The path to the file to read
-   * @param out      The OutputStream to write the file content to
-   * @throws IOException if an error occurs while reading the file or writing to the OutputStream
-   */
-  public static void setFileConent(String filePath, OutputStream out) throws IOException {
-    File file = new File(filePath);
-    int count = 0;
-    byte[] buffer = new byte[1024];
-
-    try (BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file))) {
-      while ((count = bis.read(buffer)) > 0) {
-        out.write(buffer, 0, count);
-      }
+      conn = SSLCipherSuiteUtil.createHttpsOrHttpURLConnection(url, Constant.INTERNATIONAL_PROTOCOL);
     }
+    // Sign the request with the file hash in x-sdk-content-sha256 and send the
+    // file with fixed-length streaming mode.
+    return UPLOADER.send(request, new File(fname), conn);
   }
-
-  /**
-   * Calculate the SHA-256 hash of a file and return it as a hexadecimal string.
-   *
-   * @param fileName The name of the file to hash
-   * @return The SHA-256 hash of the file as a hexadecimal string
-   * @throws Exception if an error occurs during hashing
-   */
-  private static String calcSha256Hex(String fileName) throws Exception {
-    byte[] buffer = new byte[8192];
-    int count;
-    MessageDigest digest;
-    BufferedInputStream bis = null;
-    try {
-      digest = MessageDigest.getInstance("SHA-256");
-      bis = new BufferedInputStream(new FileInputStream(fileName));
-      while ((count = bis.read(buffer)) > 0) {
-        digest.update(buffer, 0, count);
-      }
-    } catch (NoSuchAlgorithmException e) {
-      LOGGER.error("NoSuchAlgorithmException");
-      throw e;
-    } catch (FileNotFoundException e) {
-      LOGGER.error("FileNotFoundException");
-      throw e;
-    } finally {
-      bis.close();
-    }
-
-    byte[] hash = digest.digest();
-    return BinaryUtils.toHex(hash);
-  }
-
 }
\ No newline at end of file
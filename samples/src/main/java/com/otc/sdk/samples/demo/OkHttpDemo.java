@@ -5,7 +5,6 @@ import org.slf4j.LoggerFactory;
 
 import com.otc.sdk.core.http.HttpMethodName;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
@@ -50,8 +49,8 @@ public class OkHttpDemo {
       OkHttpClient client;
       if (Constant.DO_VERIFY) {
         // creat okhttpClient and verify ssl certificate
-        HostName.setUrlHostName(OkHttpRequest.getHost());
-        client = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        client = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            OkHttpRequest.getHost());
       } else {
         // create okhttpClient and do not verify ssl certificate
         client = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
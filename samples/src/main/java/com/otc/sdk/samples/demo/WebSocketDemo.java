@@ -5,7 +5,6 @@ import org.slf4j.LoggerFactory;
 
 import com.otc.sdk.core.http.HttpMethodName;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
@@ -50,8 +49,8 @@ public class WebSocketDemo {
       OkHttpClient webSocketClient;
       if (Constant.DO_VERIFY) {
         // create okhttpClient and verify ssl certificate
-        HostName.setUrlHostName(webSocketRequest.getHost());
-        webSocketClient = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        webSocketClient = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            webSocketRequest.getHost());
       } else {
         // create okhttpClient and do not verify ssl certificate
         webSocketClient = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
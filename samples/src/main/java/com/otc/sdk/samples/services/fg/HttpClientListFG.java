@@ -28,7 +28,6 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.otc.sdk.core.http.HttpMethodName;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
@@ -77,8 +76,8 @@ public class HttpClientListFG {
 
       if (Constant.DO_VERIFY) {
         // create httpClient and verify ssl certificate
-        HostName.setUrlHostName(httpClientRequest.getHost());
-        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            httpClientRequest.getHost());
       } else {
         // create httpClient and do not verify ssl certificate
         client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClient(Constant.INTERNATIONAL_PROTOCOL);
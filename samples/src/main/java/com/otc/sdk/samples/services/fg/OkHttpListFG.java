@@ -19,8 +19,10 @@ import org.slf4j.LoggerFactory;
 
 import com.otc.sdk.core.http.HttpMethodName;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.model.fg.FunctionInfo;
+import com.otc.sdk.model.fg.ListFunctionsResponse;
+import com.otc.sdk.model.fg.ListFunctionsResponseJsonCodec;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
 
@@ -69,8 +71,8 @@ public class OkHttpListFG {
       OkHttpClient client;
       if (Constant.DO_VERIFY) {
         // create okhttpClient and verify ssl certificate
-        HostName.setUrlHostName(OkHttpRequest.getHost());
-        client = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        client = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            OkHttpRequest.getHost());
       } else {
         // create okhttpClient and do not verify ssl certificate
         client = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
@@ -81,7 +83,10 @@ public class OkHttpListFG {
       LOGGER.info("status: " + response.code());
       // Print the body of the response.
       ResponseBody resEntity = response.body();
-      LOGGER.info("body: " + resEntity.string());
+      ListFunctionsResponse functions = ListFunctionsResponseJsonCodec.INSTANCE.fromJson(resEntity.byteStream());
+      for (FunctionInfo function : functions.getFunctions()) {
+        LOGGER.info(function.getFuncName() + " " + function.getRuntime() + " " + function.getFuncUrn());
+      }
     } catch (Exception e) {
       LOGGER.error(e.getMessage());
     }
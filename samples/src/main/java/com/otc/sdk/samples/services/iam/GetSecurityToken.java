@@ -21,14 +21,15 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.otc.sdk.core.util.Constant;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.model.iam.Credential;
+import com.otc.sdk.model.iam.SecurityTokenRequest;
+import com.otc.sdk.model.iam.SecurityTokenRequestJsonCodec;
+import com.otc.sdk.model.iam.SecurityTokenResponseJsonCodec;
 import com.otc.sdk.samples.services.fg.HttpClientListFG;
 import com.otc.sdk.service.Client;
 
@@ -49,7 +50,7 @@ public class GetSecurityToken {
 
       String ak = System.getenv("OTC_SDK_AK");
       String sk = System.getenv("OTC_SDK_SK");
-      String body = "{\"auth\":{\"identity\":{\"methods\":[\"token\"],\"token\":{\"duration_seconds\":900}}}}";
+      String body = SecurityTokenRequestJsonCodec.INSTANCE.toJson(SecurityTokenRequest.withDuration(900));
 
       Map<String, String> headers = new HashMap<>();
       headers.put("Content-type", "application/json;charset=utf8");
@@ -61,16 +62,13 @@ public class GetSecurityToken {
       HttpResponse response = client.execute(postRequest);
       HttpEntity resEntity = response.getEntity();
       if (resEntity != null) {
-        String jsonString = EntityUtils.toString(resEntity, "UTF-8");
+        // Read the response with the generated codec.
+        Credential credential = SecurityTokenResponseJsonCodec.INSTANCE.fromJson(resEntity.getContent())
+            .getCredential();
 
-        LOGGER.info(jsonString);
-        JsonObject obj = JsonParser.parseString(jsonString).getAsJsonObject();
-
-        JsonObject credential = obj.get("credential").getAsJsonObject();
-
-        String sak = credential.get("access").getAsString();
-        String ssk = credential.get("secret").getAsString();
-        String stoken = credential.get("securitytoken").getAsString();
+        String sak = credential.getAccess();
+        String ssk = credential.getSecret();
+        String stoken = credential.getSecurityToken();
 
         LOGGER.info("SecurityAccessKey: " + sak);
         LOGGER.info("SecuritySecretKey: " + ssk);
@@ -18,18 +18,16 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.json.JsonArrayIterator;
+import com.otc.sdk.core.json.JsonStreams;
 import com.otc.sdk.core.util.Constant;
-import com.otc.sdk.core.util.HostName;
 import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.model.vpc.Vpc;
+import com.otc.sdk.model.vpc.VpcJsonCodec;
 import com.otc.sdk.service.Client;
 import com.otc.sdk.service.Request;
 
@@ -77,8 +75,8 @@ public class HttpClientListVPC {
 
       if (Constant.DO_VERIFY) {
         // create httpClient and verify ssl certificate
-        HostName.setUrlHostName(httpClientRequest.getHost());
-        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL);
+        client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL,
+            httpClientRequest.getHost());
       } else {
         // create httpClient and do not verify ssl certificate
         client = (CloseableHttpClient) SSLCipherSuiteUtil.createHttpClient(Constant.INTERNATIONAL_PROTOCOL);
@@ -88,18 +86,18 @@ public class HttpClientListVPC {
       // Print the body of the response.
       HttpEntity resEntity = response.getEntity();
       if (resEntity != null) {
-        String jsonString = EntityUtils.toString(resEntity, "UTF-8");
-
-        LOGGER.info("json: " + jsonString);
-
-        JsonObject obj = JsonParser.parseString(jsonString).getAsJsonObject();
-
-        LOGGER.info("vpc count: " + obj.get("vpcs").getAsJsonArray().size());
-
-        JsonArray vpcs = obj.get("vpcs").getAsJsonArray();
-        for (JsonElement jsonElement : vpcs) {
-          LOGGER.info(jsonElement.toString());
+        // Read the VPCs one at a time from the response stream.
+        int count = 0;
+        try (JsonArrayIterator<Vpc> vpcs = JsonStreams.elements(resEntity.getContent(), "vpcs",
+            VpcJsonCodec.INSTANCE)) {
+          while (vpcs.hasNext()) {
+            Vpc vpc = vpcs.next();
+            LOGGER.info(vpc.getId() + " " + vpc.getName() + " " + vpc.getCidr());
+            count++;
+          }
         }
+
+        LOGGER.info("vpc count: " + count);
       }
     } catch (Exception e) {
       LOGGER.error(e.getMessage());
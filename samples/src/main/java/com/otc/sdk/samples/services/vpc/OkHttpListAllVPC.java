@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.services.vpc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.json.JsonArrayIterator;
+import com.otc.sdk.core.json.JsonStreams;
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.service.OkHttpTransport;
+import com.otc.sdk.service.Paginator;
+import com.otc.sdk.service.Request;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * OkHttpListAllVPC class demonstrates how to list all Virtual Private Cloud (VPC) resources
+ * page by page using the OTC SDK.
+ * It shows how to iterate over the pages with a Paginator, which requests the next page
+ * while the current page is processed.
+ * The VPCs are printed to the console.
+ */
+public class OkHttpListAllVPC {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpListAllVPC.class);
+
+  public static void main(String[] args) throws Exception {
+    // Create a new request.
+    Request request = new Request();
+    try {
+      // Set the request parameters.
+
+      String ak = System.getenv("OTC_SDK_AK");
+      String sk = System.getenv("OTC_SDK_SK");
+      String projectId = System.getenv("OTC_SDK_PROJECTID");
+      String region = System.getenv("OTC_SDK_REGION");
+
+      request.setKey(ak);
+      request.setSecret(sk);
+      request.setMethod(HttpMethodName.GET.toString());
+
+      String url = String.format("https://vpc.%s.otc.t-systems.com/v1/%s/vpcs", region, projectId);
+      request.setUrl(url);
+
+      request.addHeader("Content-type", "application/json;charset=utf8");
+      request.addHeader("X-Project-Id", projectId);
+
+    } catch (Exception e) {
+      LOGGER.error("fail to contain request: {}", e.getMessage());
+      throw e;
+    }
+
+    OkHttpClient client;
+    if (Constant.DO_VERIFY) {
+      // create okhttpClient and verify ssl certificate
+      client = SSLCipherSuiteUtil.createOkHttpClientWithVerify(Constant.INTERNATIONAL_PROTOCOL, request.getHost());
+    } else {
+      // create okhttpClient and do not verify ssl certificate
+      client = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
+    }
+
+    Paginator<Response> paginator = new Paginator<>(new OkHttpTransport(client));
+    paginator.setPageSize(100);
+
+    // The marker of the next page is the id of the last VPC of a page.
+    Paginator.PageParser<Response, JsonElement> parser = response -> {
+      List<JsonElement> vpcs = new ArrayList<>();
+      try (JsonArrayIterator<JsonElement> elements = JsonStreams.elements(response.body().byteStream(), "vpcs")) {
+        elements.forEachRemaining(vpcs::add);
+      }
+      String nextMarker = vpcs.isEmpty() ? null
+          : vpcs.get(vpcs.size() - 1).getAsJsonObject().get("id").getAsString();
+      return new Paginator.Page<>(vpcs, nextMarker);
+    };
+
+    int count = 0;
+    try (Paginator<Response>.PageIterator<JsonElement> vpcs = paginator.iterate(request, parser)) {
+      while (vpcs.hasNext()) {
+        LOGGER.info(vpcs.next().toString());
+        count++;
+      }
+    } catch (Exception e) {
+      LOGGER.error(e.getMessage());
+    }
+    LOGGER.info("vpc count: " + count);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.services.vpc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.json.JsonArrayIterator;
+import com.otc.sdk.core.json.JsonStreams;
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.model.vpc.Vpc;
+import com.otc.sdk.model.vpc.VpcJsonCodec;
+import com.otc.sdk.service.FanOutExecutor;
+import com.otc.sdk.service.OkHttpTransport;
+import com.otc.sdk.service.Paginator;
+import com.otc.sdk.service.Request;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * OkHttpListVPCFanOut class demonstrates how to list the Virtual Private Cloud (VPC) resources
+ * of several regions and projects concurrently using the OTC SDK.
+ * The targets are read from the environment variable OTC_SDK_TARGETS as comma separated list of
+ * region:projectId pairs, e.g. "eu-de:0123,eu-nl:4567".
+ * The VPCs of all targets are printed to the console as they arrive, followed by the failed
+ * targets.
+ */
+public class OkHttpListVPCFanOut {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpListVPCFanOut.class);
+
+  public static void main(String[] args) throws Exception {
+    String ak = System.getenv("OTC_SDK_AK");
+    String sk = System.getenv("OTC_SDK_SK");
+
+    List<FanOutExecutor.Target> targets = new ArrayList<>();
+    for (String target : System.getenv("OTC_SDK_TARGETS").split(",")) {
+      String[] regionAndProject = target.trim().split(":");
+      targets.add(new FanOutExecutor.Target(regionAndProject[0], regionAndProject[1]));
+    }
+
+    // create okhttpClient and do not verify ssl certificate
+    OkHttpClient client = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
+
+    FanOutExecutor<Response> fanOut = new FanOutExecutor<>(new OkHttpTransport(client));
+    fanOut.setMaxConcurrencyPerEndpoint(2);
+    fanOut.setPageSize(100);
+
+    // The request of a target.
+    FanOutExecutor.RequestFactory requestFactory = target -> {
+      Request request = new Request();
+      request.setKey(ak);
+      request.setSecret(sk);
+      request.setMethod(HttpMethodName.GET.toString());
+      request.setUrl(target.url("https://vpc.{region}.otc.t-systems.com/v1/{project_id}/vpcs"));
+      request.addHeader("Content-type", "application/json;charset=utf8");
+      request.addHeader("X-Project-Id", target.getProjectId());
+      return request;
+    };
+
+    // The marker of the next page is the id of the last VPC of a page.
+    Paginator.PageParser<Response, Vpc> parser = response -> {
+      List<Vpc> vpcs = new ArrayList<>();
+      try (JsonArrayIterator<Vpc> elements = JsonStreams.elements(response.body().byteStream(), "vpcs",
+          VpcJsonCodec.INSTANCE)) {
+        elements.forEachRemaining(vpcs::add);
+      }
+      return new Paginator.Page<>(vpcs, vpcs.isEmpty() ? null : vpcs.get(vpcs.size() - 1).getId());
+    };
+
+    try (FanOutExecutor<Response>.Results<Vpc> results = fanOut.execute(targets, requestFactory, parser)) {
+      while (results.hasNext()) {
+        FanOutExecutor.Item<Vpc> item = results.next();
+        LOGGER.info(item.getTarget() + ": " + item.getValue().getId() + " " + item.getValue().getName());
+      }
+      for (FanOutExecutor.Failure failure : results.getFailures()) {
+        LOGGER.error(failure.getTarget() + " failed: " + failure.getException().getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.services.vpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.http.RetryPolicy;
+import com.otc.sdk.core.metrics.DefaultRequestMetrics;
+import com.otc.sdk.core.metrics.JmxMetricsExporter;
+import com.otc.sdk.core.metrics.LatencyHistogram;
+import com.otc.sdk.core.metrics.RequestPhase;
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.service.OkHttpTransport;
+import com.otc.sdk.service.Request;
+import com.otc.sdk.service.RetryExecutor;
+
+import okhttp3.Response;
+
+/**
+ * OkHttpListVPCWithMetrics class demonstrates how to record the phases of requests using the
+ * OTC SDK.
+ * The VPCs are listed several times. The latencies of signing, connecting, the TLS handshake,
+ * the time to first byte and reading the body are printed to the console and exported as
+ * MBeans under com.otc.sdk:type=RequestMetrics.
+ */
+public class OkHttpListVPCWithMetrics {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpListVPCWithMetrics.class);
+
+  public static void main(String[] args) throws Exception {
+    String ak = System.getenv("OTC_SDK_AK");
+    String sk = System.getenv("OTC_SDK_SK");
+    String projectId = System.getenv("OTC_SDK_PROJECTID");
+    String region = System.getenv("OTC_SDK_REGION");
+
+    DefaultRequestMetrics metrics = new DefaultRequestMetrics();
+    JmxMetricsExporter.register("vpc", metrics);
+
+    OkHttpTransport transport = new OkHttpTransport(
+        SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL));
+    transport.setRequestMetrics(metrics);
+    RetryExecutor<Response> executor = new RetryExecutor<>(transport, new RetryPolicy());
+    executor.setRequestMetrics(metrics);
+
+    Request request = new Request();
+    request.setKey(ak);
+    request.setSecret(sk);
+    request.setMethod(HttpMethodName.GET.toString());
+    request.setUrl(String.format("https://vpc.%s.otc.t-systems.com/v1/%s/vpcs", region, projectId));
+    request.addHeader("Content-type", "application/json;charset=utf8");
+
+    for (int i = 0; i < 10; i++) {
+      try (Response response = executor.execute(request)) {
+        response.body().string();
+      } catch (Exception e) {
+        LOGGER.error(e.getMessage());
+      }
+    }
+
+    LOGGER.info(String.format("%d requests, %d failures", metrics.getRequests(), metrics.getFailures()));
+    for (RequestPhase phase : RequestPhase.values()) {
+      LatencyHistogram histogram = metrics.getHistogram(phase);
+      LOGGER.info(String.format("%-18s count %3d, p50 %8d us, p99 %8d us, max %8d us", phase,
+          histogram.getCount(), histogram.getP50Micros(), histogram.getP99Micros(), histogram.getMaxMicros()));
+    }
+    JmxMetricsExporter.unregister("vpc");
+  }
+}
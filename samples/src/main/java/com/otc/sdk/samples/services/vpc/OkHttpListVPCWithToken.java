@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.services.vpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.auth.token.PasswordTokenFetcher;
+import com.otc.sdk.core.auth.token.TokenCache;
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.http.RetryPolicy;
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.service.OkHttpTransport;
+import com.otc.sdk.service.Request;
+import com.otc.sdk.service.RetryExecutor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * OkHttpListVPCWithToken class demonstrates how to authenticate requests with an IAM token
+ * using the OTC SDK.
+ * The token is obtained once with the password of an IAM user and attached as X-Auth-Token
+ * header to every request, so the requests are not signed.
+ * The VPCs are printed to the console.
+ */
+public class OkHttpListVPCWithToken {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpListVPCWithToken.class);
+
+  public static void main(String[] args) throws Exception {
+    String projectId = System.getenv("OTC_SDK_PROJECTID");
+    String region = System.getenv("OTC_SDK_REGION");
+
+    OkHttpClient client = SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL);
+    OkHttpTransport transport = new OkHttpTransport(client);
+
+    TokenCache tokenCache = new TokenCache(new PasswordTokenFetcher<>(transport, System.getenv("OTC_IAM_ENDPOINT"),
+        System.getenv("OTC_SDK_DOMAIN"), System.getenv("OTC_SDK_USERNAME"), System.getenv("OTC_SDK_PASSWORD")));
+    RetryExecutor<Response> executor = new RetryExecutor<>(transport, new RetryPolicy());
+    executor.setTokenAuth(tokenCache, projectId);
+
+    Request request = new Request();
+    request.setMethod(HttpMethodName.GET.toString());
+    request.setUrl(String.format("https://vpc.%s.otc.t-systems.com/v1/%s/vpcs", region, projectId));
+    request.addHeader("Content-type", "application/json;charset=utf8");
+
+    // Both requests use the same token.
+    for (int i = 0; i < 2; i++) {
+      try (Response response = executor.execute(request)) {
+        LOGGER.info(response.body().string());
+      } catch (Exception e) {
+        LOGGER.error(e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 T-Systems International GmbH.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.otc.sdk.samples.services.vpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.otc.sdk.core.http.HttpMethodName;
+import com.otc.sdk.core.http.RetryPolicy;
+import com.otc.sdk.core.trace.Tracer;
+import com.otc.sdk.core.util.Constant;
+import com.otc.sdk.core.util.SSLCipherSuiteUtil;
+import com.otc.sdk.service.OkHttpTransport;
+import com.otc.sdk.service.Request;
+import com.otc.sdk.service.RetryExecutor;
+
+import okhttp3.Response;
+
+/**
+ * OkHttpListVPCWithTracing class demonstrates how to propagate W3C trace context using the
+ * OTC SDK.
+ * The first request continues the trace of an incoming traceparent header, the others start new
+ * traces. The sign, send and receive spans of the requests are printed to the console.
+ */
+public class OkHttpListVPCWithTracing {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpListVPCWithTracing.class);
+
+  public static void main(String[] args) throws Exception {
+    String ak = System.getenv("OTC_SDK_AK");
+    String sk = System.getenv("OTC_SDK_SK");
+    String projectId = System.getenv("OTC_SDK_PROJECTID");
+    String region = System.getenv("OTC_SDK_REGION");
+
+    Tracer tracer = new Tracer(span -> LOGGER.info(span.toString()));
+    RetryExecutor<Response> executor = new RetryExecutor<>(
+        new OkHttpTransport(SSLCipherSuiteUtil.createOkHttpClient(Constant.INTERNATIONAL_PROTOCOL)),
+        new RetryPolicy());
+    executor.setTracer(tracer);
+
+    for (int i = 0; i < 3; i++) {
+      Request request = new Request();
+      request.setKey(ak);
+      request.setSecret(sk);
+      request.setMethod(HttpMethodName.GET.toString());
+      request.setUrl(String.format("https://vpc.%s.otc.t-systems.com/v1/%s/vpcs", region, projectId));
+      request.addHeader("Content-type", "application/json;charset=utf8");
+      if (i == 0) {
+        // e.g. the traceparent of the request this application is serving
+        request.addHeader("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+      }
+      try (Response response = executor.execute(request)) {
+        response.body().string();
+      } catch (Exception e) {
+        LOGGER.error(e.getMessage());
+      }
+    }
+  }
+}